@@ -22,6 +22,8 @@ public class SeleniumConfig extends AbstractSeleniumConfig {
     private static final String HOST = "host";
     private static final String PORT = "port";
     private static final String HUB = "hub";
+    private static final String MAX_SESSION = "maxSession";
+    private static final int DEFAULT_MAX_SESSION = 5;
     
     private static final String JSON_HEAD = "{ \"capabilities\": [";
     private static final String JSON_TAIL = "], \"configuration\": {} }";
@@ -93,6 +95,15 @@ public class SeleniumConfig extends AbstractSeleniumConfig {
         }
         return Arrays.copyOf(nodeArgs, nodeArgs.length);
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNodeMaxSessions() {
+        Object maxSession = getNodeConfig().getConfiguration().get(MAX_SESSION);
+        return (maxSession instanceof Number) ? ((Number) maxSession).intValue() : DEFAULT_MAX_SESSION;
+    }
 
     /**
      * Resolve Selenium Grid node settings for host, port, and hub.
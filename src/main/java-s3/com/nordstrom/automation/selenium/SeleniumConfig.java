@@ -22,6 +22,7 @@ public class SeleniumConfig extends AbstractSeleniumConfig {
     
     private static final String JSON_HEAD = "{ \"capabilities\": [";
     private static final String JSON_TAIL = "] }";
+    private static final int DEFAULT_MAX_SESSION = 5;
     
     private static final String[] DEPENDENCY_CONTEXTS = {
                     "org.openqa.grid.selenium.GridLauncherV3", "org.openqa.selenium.htmlunit.HtmlUnitDriver"};
@@ -83,6 +84,15 @@ public class SeleniumConfig extends AbstractSeleniumConfig {
         }
         return Arrays.copyOf(nodeArgs, nodeArgs.length);
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNodeMaxSessions() {
+        Integer maxSession = getNodeConfig().maxSession;
+        return (maxSession != null) ? maxSession : DEFAULT_MAX_SESSION;
+    }
 
     /**
      * Resolve Selenium Grid node settings for host, port, and hub.
@@ -33,6 +33,7 @@ import org.openqa.selenium.SearchContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.nordstrom.automation.selenium.support.PollingStrategy;
 import com.nordstrom.automation.selenium.support.SearchContextWait;
 import com.nordstrom.automation.settings.SettingsCore;
 import com.nordstrom.common.base.UncheckedThrow;
@@ -101,6 +102,44 @@ public abstract class AbstractSeleniumConfig extends SettingsCore<AbstractSeleni
         WAIT_TIMEOUT("selenium.timeout.wait", "15"),
         /** name: <b>selenium.timeout.host</b> <br> default: <b>30</b> */
         HOST_TIMEOUT("selenium.timeout.host", "30"),
+        /** name: <b>selenium.polling.pageload</b> <br> default: <b>exponential</b> */
+        PAGE_LOAD_POLLING("selenium.polling.pageload", "exponential"),
+        /** name: <b>selenium.polling.implied</b> <br> default: <b>exponential</b> */
+        IMPLIED_POLLING("selenium.polling.implied", "exponential"),
+        /** name: <b>selenium.polling.script</b> <br> default: <b>exponential</b> */
+        SCRIPT_POLLING("selenium.polling.script", "exponential"),
+        /** name: <b>selenium.polling.wait</b> <br> default: <b>exponential</b> */
+        WAIT_POLLING("selenium.polling.wait", "exponential"),
+        /** name: <b>selenium.polling.host</b> <br> default: <b>fixed</b> */
+        HOST_POLLING("selenium.polling.host", "fixed"),
+        /** name: <b>selenium.polling.start</b> <br> default: <b>10</b> */
+        POLLING_START_INTERVAL("selenium.polling.start", "10"),
+        /** name: <b>selenium.polling.max</b> <br> default: <b>500</b> */
+        POLLING_MAX_INTERVAL("selenium.polling.max", "500"),
+        /** name: <b>selenium.metrics.sink</b> <br> default: {@code null} */
+        METRICS_SINK("selenium.metrics.sink", null),
+        /** name: <b>selenium.wait.scripted</b> <br> default: <b>false</b> */
+        SCRIPTED_WAITS("selenium.wait.scripted", "false"),
+        /** name: <b>selenium.pool.size</b> <br> default: <b>0</b> */
+        SESSION_POOL_SIZE("selenium.pool.size", "0"),
+        /** name: <b>selenium.pool.reuse</b> <br> default: <b>10</b> */
+        SESSION_POOL_REUSE("selenium.pool.reuse", "10"),
+        /** name: <b>selenium.quit.threads</b> <br> default: <b>2</b> */
+        QUIT_THREADS("selenium.quit.threads", "2"),
+        /** name: <b>selenium.session.speculative</b> <br> default: <b>false</b> */
+        SPECULATIVE_SESSIONS("selenium.session.speculative", "false"),
+        /** name: <b>selenium.grid.monitor</b> <br> default: <b>5</b> */
+        GRID_MONITOR_INTERVAL("selenium.grid.monitor", "5"),
+        /** name: <b>selenium.grid.inprocess</b> <br> default: <b>false</b> */
+        GRID_IN_PROCESS("selenium.grid.inprocess", "false"),
+        /** name: <b>selenium.grid.capacity</b> <br> default: <b>0</b> */
+        GRID_CAPACITY("selenium.grid.capacity", "0"),
+        /** name: <b>selenium.grid.log.size</b> <br> default: <b>10</b> */
+        GRID_LOG_SIZE("selenium.grid.log.size", "10"),
+        /** name: <b>selenium.grid.log.retain</b> <br> default: <b>5</b> */
+        GRID_LOG_RETAIN("selenium.grid.log.retain", "5"),
+        /** name: <b>selenium.grid.log.level</b> <br> default: <b>WARN</b> */
+        GRID_LOG_LEVEL("selenium.grid.log.level", "WARN"),
         /** name: <b>google.dns.socket.host</b> <br> default: <b>8.8.8.8</b> */
         GOOGLE_DNS_SOCKET_HOST("google.dns.socket.host", "8.8.8.8"),    //NOSONAR
         /** name: <b>google.dns.socket.port</b> <br> default: <b>10002</b> */
@@ -143,44 +182,53 @@ public abstract class AbstractSeleniumConfig extends SettingsCore<AbstractSeleni
     public enum WaitType {
         /**
          * purpose: The maximum allowed interval for a page to finish loading. <br>
-         * setting: {@link SeleniumSettings#PAGE_LOAD_TIMEOUT page load timeout}
+         * setting: {@link SeleniumSettings#PAGE_LOAD_TIMEOUT page load timeout} <br>
+         * polling: {@link SeleniumSettings#PAGE_LOAD_POLLING page load polling}
          */
-        PAGE_LOAD(SeleniumSettings.PAGE_LOAD_TIMEOUT),
+        PAGE_LOAD(SeleniumSettings.PAGE_LOAD_TIMEOUT, SeleniumSettings.PAGE_LOAD_POLLING),
         
         /**
          * purpose: The maximum amount of time the driver will search for an element. <br>
-         * setting: {@link SeleniumSettings#IMPLIED_TIMEOUT implicit timeout}
+         * setting: {@link SeleniumSettings#IMPLIED_TIMEOUT implicit timeout} <br>
+         * polling: {@link SeleniumSettings#IMPLIED_POLLING implicit polling}
          */
-        IMPLIED(SeleniumSettings.IMPLIED_TIMEOUT),
+        IMPLIED(SeleniumSettings.IMPLIED_TIMEOUT, SeleniumSettings.IMPLIED_POLLING),
         
         /**
          * purpose: The maximum allowed interval for an asynchronous script to finish. <br>
-         * setting: {@link SeleniumSettings#SCRIPT_TIMEOUT script timeout}
+         * setting: {@link SeleniumSettings#SCRIPT_TIMEOUT script timeout} <br>
+         * polling: {@link SeleniumSettings#SCRIPT_POLLING script polling}
          */
-        SCRIPT(SeleniumSettings.SCRIPT_TIMEOUT),
+        SCRIPT(SeleniumSettings.SCRIPT_TIMEOUT, SeleniumSettings.SCRIPT_POLLING),
         
         /**
          * purpose: The maximum amount of time to wait for a search context event. <br> 
-         * setting: {@link SeleniumSettings#WAIT_TIMEOUT wait timeout}
+         * setting: {@link SeleniumSettings#WAIT_TIMEOUT wait timeout} <br>
+         * polling: {@link SeleniumSettings#WAIT_POLLING wait polling}
          */
-        WAIT(SeleniumSettings.WAIT_TIMEOUT),
+        WAIT(SeleniumSettings.WAIT_TIMEOUT, SeleniumSettings.WAIT_POLLING),
         
         /**
          * purpose: The maximum amount of time to wait for a Grid server to launch. <br>
-         * setting: {@link SeleniumSettings#HOST_TIMEOUT host timeout}
+         * setting: {@link SeleniumSettings#HOST_TIMEOUT host timeout} <br>
+         * polling: {@link SeleniumSettings#HOST_POLLING host polling}
          */
-        HOST(SeleniumSettings.HOST_TIMEOUT);
+        HOST(SeleniumSettings.HOST_TIMEOUT, SeleniumSettings.HOST_POLLING);
         
         private SeleniumSettings timeoutSetting;
+        private SeleniumSettings pollingSetting;
         private Long timeoutInterval;
+        private PollingStrategy pollingStrategy;
         
         /**
          * Constructor for WaitType enumeration
          * 
          * @param timeoutSetting timeout setting constant
+         * @param pollingSetting polling strategy setting constant
          */
-        WaitType(final SeleniumSettings timeoutSetting) {
+        WaitType(final SeleniumSettings timeoutSetting, final SeleniumSettings pollingSetting) {
             this.timeoutSetting = timeoutSetting;
+            this.pollingSetting = pollingSetting;
         }
         
         /**
@@ -206,6 +254,29 @@ public abstract class AbstractSeleniumConfig extends SettingsCore<AbstractSeleni
             return timeoutInterval;
         }
         
+        /**
+         * Get the polling strategy for this wait type
+         * 
+         * @return wait type polling strategy
+         */
+        public PollingStrategy getPollingStrategy() {
+            return getPollingStrategy(getConfig());
+        }
+        
+        /**
+         * Get the polling strategy for this wait type.<br>
+         * 
+         * @param config {@link AbstractSeleniumConfig} object to interrogate
+         * @return wait type polling strategy
+         */
+        public PollingStrategy getPollingStrategy(final AbstractSeleniumConfig config) {
+            if (pollingStrategy == null) {
+                Objects.requireNonNull(config, "[config] must be non-null");
+                pollingStrategy = PollingStrategy.fromName(config.getString(pollingSetting.key()));
+            }
+            return pollingStrategy;
+        }
+        
         /**
          * Get a search context wait object for the specified context
          * 
@@ -213,7 +284,11 @@ public abstract class AbstractSeleniumConfig extends SettingsCore<AbstractSeleni
          * @return {@link SearchContextWait} object for the specified context
          */
         public SearchContextWait getWait(final SearchContext context) {
-            return new SearchContextWait(context, getInterval());
+            AbstractSeleniumConfig config = getConfig();
+            return new SearchContextWait(context, getInterval(config), getPollingStrategy(config),
+                            config.getLong(SeleniumSettings.POLLING_START_INTERVAL.key()),
+                            config.getLong(SeleniumSettings.POLLING_MAX_INTERVAL.key()))
+                            .withScriptedConditions(config.getBoolean(SeleniumSettings.SCRIPTED_WAITS.key()));
         }
         
     }
@@ -324,6 +399,13 @@ public abstract class AbstractSeleniumConfig extends SettingsCore<AbstractSeleni
      */
     public abstract String[] getNodeArgs();
     
+    /**
+     * Get the maximum number of concurrent sessions supported by the configured Selenium Grid node.
+     * 
+     * @return node session limit
+     */
+    public abstract int getNodeMaxSessions();
+    
     /**
      * Get the configured target URI as specified by its component parts.
      * <p>
@@ -0,0 +1,33 @@
+package com.nordstrom.automation.selenium.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.nordstrom.automation.selenium.model.ComponentContainer;
+import com.nordstrom.automation.selenium.model.ComponentContainer.ByEnum;
+
+/**
+ * This annotation can be applied to collectible component declarations to enable batched element acquisition.
+ * <p>
+ * When a list or map of annotated components is built (e.g. - {@link ComponentContainer#newComponentList}), a single
+ * script locates the context elements of the collection along with the elements matched by each of the locators of
+ * the specified enumeration within each of these contexts. The resulting references are used to seed the components,
+ * eliminating the per-component search requests that would otherwise be sent to the driver.
+ * <p>
+ * <b>NOTE</b>: Batched acquisition is only applied if the collection locator and all of the specified child locators
+ * can be converted to CSS or XPath. Otherwise, elements are acquired in the standard fashion.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface BatchedAcquisition {
+    
+    /**
+     * Get the enumeration that declares the locators of the elements to acquire within each component.
+     * 
+     * @return child element locator enumeration
+     */
+    Class<? extends ByEnum> value();
+}
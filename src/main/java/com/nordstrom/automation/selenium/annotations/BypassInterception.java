@@ -0,0 +1,36 @@
+package com.nordstrom.automation.selenium.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.nordstrom.automation.selenium.model.ComponentContainer;
+
+/**
+ * This annotation declares the methods of a {@link ComponentContainer container} class that aren't intercepted by its
+ * "enhanced" subclass.
+ * <p>
+ * The declarations of a container class and all of its superclasses are combined. Because these declarations are
+ * read from the class itself, they apply equally to enhanced subclasses created at runtime and to those generated at
+ * build time.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface BypassInterception {
+    
+    /**
+     * Get the classes whose public methods should not be intercepted.
+     * 
+     * @return array of bypass classes
+     */
+    Class<?>[] classes() default {};
+    
+    /**
+     * Get the names of methods that should not be intercepted.
+     * 
+     * @return array of bypass method names
+     */
+    String[] methods() default {};
+}
@@ -0,0 +1,39 @@
+package com.nordstrom.automation.selenium.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.nordstrom.automation.selenium.model.ComponentContainer;
+
+/**
+ * This annotation can be applied to collectible container declarations to specify the key of each map entry
+ * declaratively, in lieu of a static {@code getKey(SearchContext)} method.
+ * <p>
+ * When a map of annotated containers is built (e.g. - {@link ComponentContainer#newComponentMap}), the keys of all
+ * entries are extracted by a single script execution. Each key is the value of the specified attribute (or the
+ * trimmed text content if no attribute is specified) of the container context element, or of the first element
+ * within this context that matches the specified CSS selector.
+ * <p>
+ * <b>NOTE</b>: If the context element (or the sub-element) doesn't exist, the key for the entry is {@code null}.
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ContainerKey {
+    
+    /**
+     * Get the name of the attribute that provides the key.
+     * 
+     * @return attribute name; empty string to use text content
+     */
+    String attribute() default "";
+    
+    /**
+     * Get the CSS selector of the sub-element that provides the key.
+     * 
+     * @return CSS selector; empty string to use the container context element
+     */
+    String selector() default "";
+}
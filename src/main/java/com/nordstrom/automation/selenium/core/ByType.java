@@ -1,19 +1,46 @@
 package com.nordstrom.automation.selenium.core;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.nordstrom.automation.selenium.model.ComponentContainer.ByEnum;
 
 /**
  * This utility class defines static methods and interfaces related to Selenium {@link By} objects.
+ * <p>
+ * <b>NOTE</b>: Locator translations are computed once per {@link By} object and cached. The cache is keyed by object
+ * identity with weak references, so lookups perform no string operations and discarded locators are released. The
+ * translations for all constants of a {@link ByEnum} enumeration are computed together the first time any of them
+ * is requested.
  */
 public final class ByType {
     
     private static final String UNSUPPORTED_FOR_CSS = "Cannot get CSS locator string for '{}' locator";
     private static final String UNSUPPORTED_FOR_XPATH = "Cannot get XPath locator string for '{}' locator";
     
+    private static final LoadingCache<By, Translation> TRANSLATIONS =
+                    CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(Translation::new));
+    
+    private static final ClassValue<Translation[]> ENUM_TRANSLATIONS = new ClassValue<Translation[]>() {
+        @Override
+        protected Translation[] computeValue(final Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Translation[] translations = new Translation[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                translations[i] = translationOf(((ByEnum) constants[i]).locator());
+            }
+            return translations;
+        }
+    };
+    
     private static final Logger LOGGER = LoggerFactory.getLogger(ByType.class);
     
     /**
@@ -23,6 +50,30 @@ public final class ByType {
         throw new AssertionError("ByType is a static utility class that cannot be instantiated");
     }
     
+    /**
+     * Get the translations of the specified locator constant.
+     * 
+     * @param constant locator constant
+     * @return {@link Translation} object for the locator of the specified constant
+     */
+    public static Translation translationOf(final ByEnum constant) {
+        if (constant instanceof Enum) {
+            Enum<?> value = (Enum<?>) constant;
+            return ENUM_TRANSLATIONS.get(value.getDeclaringClass())[value.ordinal()];
+        }
+        return translationOf(constant.locator());
+    }
+    
+    /**
+     * Get the translations of the specified Selenium locator.
+     * 
+     * @param locator Selenium locator
+     * @return {@link Translation} object for the specified locator
+     */
+    public static Translation translationOf(final By locator) {
+        return TRANSLATIONS.getUnchecked(locator);
+    }
+    
     /**
      * Get the CSS locator string that reproduces the specified locator constant
      * 
@@ -30,7 +81,7 @@ public final class ByType {
      * @return CSS locator string; 'null' if unconvertible
      */
     public static String cssLocatorFor(final ByEnum constant) {
-        return cssLocatorFor(constant.locator());
+        return cssLocatorFor(translationOf(constant));
     }
     
     /**
@@ -39,57 +90,103 @@ public final class ByType {
      * @param locator Selenium locator
      * @return CSS locator string; 'null' if unconvertible
      */
-    @SuppressWarnings("squid:S1142")
     public static String cssLocatorFor(final By locator) {
-        
-        String val = valueOf(locator);
-        
+        return cssLocatorFor(translationOf(locator));
+    }
+    
+    /**
+     * Get the XPath locator string that reproduces the specified locator constant
+     * 
+     * @param constant locator constant
+     * @return XPath locator string; 'null' if unconvertible
+     */
+    public static String xpathLocatorFor(final ByEnum constant) {
+        return xpathLocatorFor(translationOf(constant));
+    }
+    
+    /**
+     * Get the XPath locator string that reproduces the specified Selenium locator
+     * 
+     * @param locator Selenium locator
+     * @return XPath locator string; 'null' if unconvertible
+     */
+    public static String xpathLocatorFor(final By locator) {
+        return xpathLocatorFor(translationOf(locator));
+    }
+    
+    /**
+     * Get the script locator specification that reproduces the specified Selenium locator.
+     * <p>
+     * <b>NOTE</b>: XPath is preferred for locators that CSS selectors can't reproduce exactly (link text).
+     * 
+     * @param locator Selenium locator
+     * @return list containing locator type ('css' or 'xpath') and selector; 'null' if unconvertible
+     */
+    public static List<String> scriptSpecFor(final By locator) {
+        return translationOf(locator).getScriptSpec();
+    }
+    
+    /**
+     * Get the CSS locator string of the specified translation, logging a warning if it's unconvertible.
+     * 
+     * @param translation locator translation
+     * @return CSS locator string; 'null' if unconvertible
+     */
+    private static String cssLocatorFor(final Translation translation) {
+        if (translation.css == null) {
+            LOGGER.warn(UNSUPPORTED_FOR_CSS, translation.typeName);
+        }
+        return translation.css;
+    }
+    
+    /**
+     * Get the XPath locator string of the specified translation, logging a warning if it's unconvertible.
+     * 
+     * @param translation locator translation
+     * @return XPath locator string; 'null' if unconvertible
+     */
+    private static String xpathLocatorFor(final Translation translation) {
+        if (translation.xpath == null) {
+            LOGGER.warn(UNSUPPORTED_FOR_XPATH, translation.typeName);
+        }
+        return translation.xpath;
+    }
+    
+    /**
+     * Translate the specified Selenium locator to a CSS locator string.
+     * 
+     * @param locator Selenium locator
+     * @param val value extracted from the specified locator
+     * @return CSS locator string; 'null' if unconvertible
+     */
+    @SuppressWarnings("squid:S1142")
+    private static String translateToCss(final By locator, final String val) {
         if (locator instanceof By.ByClassName) {
             return "." + val;
         } else if (locator instanceof By.ByCssSelector) {
             return val;
         } else if (locator instanceof By.ById) {
             return "#" + val;
-        } else if (locator instanceof By.ByLinkText) {
-            LOGGER.warn(UNSUPPORTED_FOR_CSS, "ByLinkText");
         } else if (locator instanceof By.ByName) {
             return "[name=" + val + "]";
-        } else if (locator instanceof By.ByPartialLinkText) {
-            LOGGER.warn(UNSUPPORTED_FOR_CSS, "ByPartialLinkText");
         } else if (locator instanceof By.ByTagName) {
             return val;
-        } else if (locator instanceof By.ByXPath) {
-            LOGGER.warn(UNSUPPORTED_FOR_CSS, "ByXPath");
         }
         
         return null;
     }
     
     /**
-     * Get the XPath locator string that reproduces the specified locator constant
-     * 
-     * @param constant locator constant
-     * @return XPath locator string; 'null' if unconvertible
-     */
-    public static String xpathLocatorFor(final ByEnum constant) {
-        return xpathLocatorFor(constant.locator());
-    }
-    
-    /**
-     * Get the XPath locator string that reproduces the specified Selenium locator
+     * Translate the specified Selenium locator to an XPath locator string.
      * 
      * @param locator Selenium locator
+     * @param val value extracted from the specified locator
      * @return XPath locator string; 'null' if unconvertible
      */
     @SuppressWarnings("squid:S1142")
-    public static String xpathLocatorFor(final By locator) {
-        
-        String val = valueOf(locator);
-        
+    private static String translateToXPath(final By locator, final String val) {
         if (locator instanceof By.ByClassName) {
             return ".//*[contains(concat(' ',@class,' '),' " + val + " ')]";
-        } else if (locator instanceof By.ByCssSelector) {
-            LOGGER.warn(UNSUPPORTED_FOR_XPATH, "ByCssSelector");
         } else if (locator instanceof By.ById) {
             return ".//*[@id='" + val + "']";
         } else if (locator instanceof By.ByLinkText) {
@@ -118,4 +215,80 @@ public final class ByType {
         int i = str.indexOf(':');
         return str.substring(i + 1).trim();
     }
+    
+    /**
+     * This class holds the CSS and XPath translations of a Selenium locator, which are computed when the object is
+     * created.
+     */
+    public static final class Translation {
+        
+        private final String typeName;
+        private final String css;
+        private final String xpath;
+        private final By xpathLocator;
+        private final List<String> scriptSpec;
+        
+        /**
+         * Constructor for locator translation.
+         * 
+         * @param locator Selenium locator
+         */
+        private Translation(final By locator) {
+            String val = valueOf(locator);
+            typeName = locator.getClass().getSimpleName();
+            css = translateToCss(locator, val);
+            xpath = translateToXPath(locator, val);
+            
+            if (locator instanceof By.ByXPath) {
+                xpathLocator = locator;
+            } else {
+                xpathLocator = (xpath != null) ? By.xpath(xpath) : null;
+            }
+            
+            if ((locator instanceof By.ByXPath) || (locator instanceof By.ByLinkText)
+                            || (locator instanceof By.ByPartialLinkText)) {
+                scriptSpec = Collections.unmodifiableList(Arrays.asList("xpath", xpath));
+            } else if (css != null) {
+                scriptSpec = Collections.unmodifiableList(Arrays.asList("css", css));
+            } else {
+                scriptSpec = null;
+            }
+        }
+        
+        /**
+         * Get the CSS locator string of this translation.
+         * 
+         * @return CSS locator string; 'null' if unconvertible
+         */
+        public String getCss() {
+            return css;
+        }
+        
+        /**
+         * Get the XPath locator string of this translation.
+         * 
+         * @return XPath locator string; 'null' if unconvertible
+         */
+        public String getXPath() {
+            return xpath;
+        }
+        
+        /**
+         * Get a Selenium XPath locator for the XPath locator string of this translation.
+         * 
+         * @return XPath locator; 'null' if unconvertible
+         */
+        public By getXPathLocator() {
+            return xpathLocator;
+        }
+        
+        /**
+         * Get the script locator specification of this translation (see {@link ByType#scriptSpecFor(By)}).
+         * 
+         * @return list containing locator type ('css' or 'xpath') and selector; 'null' if unconvertible
+         */
+        public List<String> getScriptSpec() {
+            return scriptSpec;
+        }
+    }
 }
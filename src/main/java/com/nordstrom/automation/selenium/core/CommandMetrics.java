@@ -0,0 +1,403 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+import com.nordstrom.automation.selenium.SeleniumConfig;
+import com.nordstrom.automation.selenium.interfaces.MetricsSink;
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This class collects the WebDriver command metrics of a single driver session. For each combination of command name
+ * and calling page-model method, it records the number of commands issued and a histogram of their latencies.
+ * <p>
+ * Metrics are recorded by the {@link MetricsCommandExecutor} of the session, and each command is also reported to the
+ * {@link MetricsSink} specified by the {@link SeleniumSettings#METRICS_SINK METRICS_SINK} setting (if any).
+ * <p>
+ * <b>NOTE</b>: Commands issued outside of any page-model method are attributed to the {@link #NO_CALLER} caller.
+ * Commands issued by {@link DriverTeardown} are attributed to the {@link #TEARDOWN_CALLER} caller, and are
+ * summarized for the suite by {@link #drainRetired()} instead of for the test.
+ */
+public final class CommandMetrics {
+    
+    /** caller for commands issued outside of any page-model method */
+    public static final String NO_CALLER = "(test)";
+    /** caller for commands issued while a driver session is being torn down */
+    public static final String TEARDOWN_CALLER = "(teardown)";
+    
+    private static final ThreadLocal<String> CALLER = new InheritableThreadLocal<>();
+    private static final AtomicReference<Optional<MetricsSink>> SINK = new AtomicReference<>();
+    private static final CommandMetrics RETIRED = new CommandMetrics();
+    
+    private final AtomicReference<Map<Key, Histogram>> histograms = new AtomicReference<>(newHistogramMap());
+    
+    /**
+     * Constructor for command metrics of a driver session.
+     */
+    CommandMetrics() {
+        // nothing to initialize
+    }
+    
+    /**
+     * Get the command metrics collected for the specified driver.
+     *
+     * @param driver driver object
+     * @return command metrics; 'null' if the driver doesn't record metrics
+     */
+    public static CommandMetrics of(final WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+            if (executor instanceof MetricsCommandExecutor) {
+                return ((MetricsCommandExecutor) executor).getMetrics();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Set the page-model method to which commands issued by the current thread are attributed.
+     *
+     * @param caller calling page-model method; 'null' for none
+     * @return previous calling method (may be 'null')
+     */
+    public static String setCaller(final String caller) {
+        String previous = CALLER.get();
+        CALLER.set(caller);
+        return previous;
+    }
+    
+    /**
+     * Get the page-model method to which commands issued by the current thread are attributed.
+     *
+     * @return calling page-model method; {@link #NO_CALLER} for none
+     */
+    public static String getCaller() {
+        String caller = CALLER.get();
+        return (caller != null) ? caller : NO_CALLER;
+    }
+    
+    /**
+     * Record the specified command execution.
+     *
+     * @param sessionId driver session ID (may be 'null')
+     * @param command command name
+     * @param elapsedNanos command latency in nanoseconds
+     */
+    void record(final String sessionId, final String command, final long elapsedNanos) {
+        String caller = getCaller();
+        Key key = new Key(command, caller);
+        Map<Key, Histogram> current = histograms.get();
+        Histogram histogram = current.get(key);
+        if (histogram == null) {
+            histogram = current.computeIfAbsent(key, k -> new Histogram());
+        }
+        histogram.record(elapsedNanos);
+        
+        MetricsSink sink = getSink();
+        if (sink != null) {
+            sink.commandExecuted(sessionId, command, caller, elapsedNanos);
+        }
+    }
+    
+    /**
+     * Get a summary of the metrics collected since the session started or the previous call to this method.
+     * The collected metrics are reset.
+     *
+     * @return command metrics {@link Summary} object
+     */
+    public Summary drain() {
+        return new Summary(histograms.getAndSet(newHistogramMap()));
+    }
+    
+    /**
+     * Transfer the metrics attributed to the {@link #TEARDOWN_CALLER teardown} caller to the suite-level teardown
+     * metrics, so a pooled session starts its next test with no teardown residue.
+     * <p>
+     * <b>NOTE</b>: This method is called by {@link DriverTeardown} once a session has been torn down, as commands
+     * issued on teardown threads follow the drain of the per-test summary. Only teardown entries are transferred,
+     * because a recycled session may already be recording the commands of its next test.
+     */
+    void retire() {
+        Map<Key, Histogram> current = histograms.get();
+        Map<Key, Histogram> target = RETIRED.histograms.get();
+        for (Key key : current.keySet()) {
+            if (TEARDOWN_CALLER.equals(key.caller)) {
+                Histogram histogram = current.remove(key);
+                if (histogram != null) {
+                    target.computeIfAbsent(key, k -> new Histogram()).absorb(histogram);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get a summary of the metrics collected while driver sessions were being torn down. The collected metrics are
+     * reset.
+     * <p>
+     * <b>NOTE</b>: Teardowns run asynchronously; to capture all of their commands, call this method only after
+     * {@link DriverTeardown#drain(long)} has returned.
+     *
+     * @return command metrics {@link Summary} object
+     */
+    public static Summary drainRetired() {
+        return RETIRED.drain();
+    }
+    
+    /**
+     * Get the metrics sink specified by the {@link SeleniumSettings#METRICS_SINK METRICS_SINK} setting.
+     *
+     * @return metrics sink; 'null' if none specified
+     */
+    private static MetricsSink getSink() {
+        Optional<MetricsSink> sink = SINK.get();
+        if (sink == null) {
+            String className = SeleniumConfig.getConfig().getString(SeleniumSettings.METRICS_SINK.key());
+            if ((className == null) || className.isEmpty()) {
+                sink = Optional.empty();
+            } else {
+                try {
+                    sink = Optional.of(Class.forName(className).asSubclass(MetricsSink.class).newInstance());
+                } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+                    throw UncheckedThrow.throwUnchecked(e);
+                }
+            }
+            if (!SINK.compareAndSet(null, sink)) {
+                sink = SINK.get();
+            }
+        }
+        return sink.orElse(null);
+    }
+    
+    /**
+     * Create an empty histogram map.
+     *
+     * @return new histogram map
+     */
+    private static Map<Key, Histogram> newHistogramMap() {
+        return new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * This class is the key of the histogram map: a combination of command name and calling page-model method.
+     */
+    private static final class Key {
+        
+        private final String command;
+        private final String caller;
+        
+        Key(final String command, final String caller) {
+            this.command = command;
+            this.caller = caller;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return 31 * command.hashCode() + caller.hashCode();
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return command.equals(other.command) && caller.equals(other.caller);
+        }
+    }
+    
+    /**
+     * This class is a latency histogram with power-of-two millisecond buckets. Bucket 0 holds latencies under 1 mS,
+     * and bucket <i>N</i> holds latencies from 2<sup>N-1</sup> mS up to (but not including) 2<sup>N</sup> mS.
+     */
+    public static final class Histogram {
+        
+        /** number of latency buckets; the final bucket holds all latencies of 2<sup>N-2</sup> mS or more */
+        public static final int BUCKETS = 18;
+        
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        
+        /**
+         * Record the specified latency.
+         *
+         * @param elapsedNanos latency in nanoseconds
+         */
+        synchronized void record(final long elapsedNanos) {
+            long millis = elapsedNanos / 1000000;
+            int bucket = (millis == 0) ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+            buckets[bucket]++;
+            count++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+        
+        /**
+         * Add the latencies recorded by the specified histogram to this one.
+         *
+         * @param other histogram to absorb
+         */
+        void absorb(final Histogram other) {
+            long[] counts = other.getBuckets();
+            long otherCount = other.getCount();
+            long otherTotal = other.getTotalNanos();
+            long otherMax = other.getMaxNanos();
+            synchronized (this) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] += counts[i];
+                }
+                count += otherCount;
+                totalNanos += otherTotal;
+                maxNanos = Math.max(maxNanos, otherMax);
+            }
+        }
+        
+        /**
+         * Get the number of recorded latencies.
+         *
+         * @return latency count
+         */
+        public synchronized long getCount() {
+            return count;
+        }
+        
+        /**
+         * Get the total of recorded latencies.
+         *
+         * @return total latency in nanoseconds
+         */
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+        
+        /**
+         * Get the maximum recorded latency.
+         *
+         * @return maximum latency in nanoseconds
+         */
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+        
+        /**
+         * Get the counts of the latency buckets.
+         *
+         * @return array of bucket counts
+         */
+        public synchronized long[] getBuckets() {
+            return buckets.clone();
+        }
+        
+        /**
+         * Get the upper bound of the bucket that contains the specified percentile.
+         *
+         * @param percentile percentile (0 - 100)
+         * @return upper bound of percentile bucket in milliseconds
+         */
+        public synchronized long getPercentileBound(final int percentile) {
+            long threshold = (count * percentile + 99) / 100;
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= threshold) {
+                    return 1L << i;
+                }
+            }
+            return 1L << (BUCKETS - 1);
+        }
+    }
+    
+    /**
+     * This class is a summary of the command metrics collected for a driver session.
+     */
+    public static final class Summary {
+        
+        private final Map<String, Map<String, Histogram>> histograms = new ConcurrentHashMap<>();
+        
+        private Summary(final Map<Key, Histogram> source) {
+            for (Map.Entry<Key, Histogram> entry : source.entrySet()) {
+                histograms.computeIfAbsent(entry.getKey().command, k -> new ConcurrentHashMap<>())
+                        .put(entry.getKey().caller, entry.getValue());
+            }
+        }
+        
+        /**
+         * Get the names of the commands issued.
+         *
+         * @return sorted list of command names
+         */
+        public List<String> getCommands() {
+            List<String> commands = new ArrayList<>(histograms.keySet());
+            Collections.sort(commands);
+            return commands;
+        }
+        
+        /**
+         * Get the latency histograms of the specified command, keyed by calling page-model method.
+         *
+         * @param command command name
+         * @return map of latency histograms (empty if command wasn't issued)
+         */
+        public Map<String, Histogram> getHistograms(final String command) {
+            Map<String, Histogram> callers = histograms.get(command);
+            return (callers != null) ? Collections.unmodifiableMap(callers) : Collections.emptyMap();
+        }
+        
+        /**
+         * Get the total number of commands issued.
+         *
+         * @return command count
+         */
+        public long getCount() {
+            long count = 0;
+            for (Map<String, Histogram> callers : histograms.values()) {
+                for (Histogram histogram : callers.values()) {
+                    count += histogram.getCount();
+                }
+            }
+            return count;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("WebDriver commands: ").append(getCount());
+            for (String command : getCommands()) {
+                Map<String, Histogram> callers = histograms.get(command);
+                List<String> names = new ArrayList<>(callers.keySet());
+                Collections.sort(names);
+                for (String caller : names) {
+                    Histogram histogram = callers.get(caller);
+                    long count = histogram.getCount();
+                    builder.append(String.format("%n    %s [%s]: count: %d; total: %dms; mean: %.1fms; "
+                                    + "p50: <%dms; p90: <%dms; max: %dms", command, caller, count,
+                                    histogram.getTotalNanos() / 1000000,
+                                    histogram.getTotalNanos() / 1000000.0 / count,
+                                    histogram.getPercentileBound(50), histogram.getPercentileBound(90),
+                                    histogram.getMaxNanos() / 1000000));
+                }
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -2,9 +2,17 @@ package com.nordstrom.automation.selenium.core;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Timeouts;
 import org.openqa.selenium.WebDriverException;
@@ -41,6 +49,16 @@ import com.nordstrom.automation.selenium.model.Page;
  * @see GridUtility
  */
 public final class DriverManager {
+    
+    private static final ThreadLocal<Long> SESSION_WAIT = new ThreadLocal<>();
+    private static final ThreadLocal<CompletableFuture<WebDriver>> NEXT_DRIVER = new ThreadLocal<>();
+    private static final Set<CompletableFuture<WebDriver>> NEXT_DRIVERS = ConcurrentHashMap.newKeySet();
+    
+    private static final ExecutorService SESSION_REQUESTER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-session-requester");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Private constructor to prevent instantiation.
@@ -106,20 +124,27 @@ public final class DriverManager {
             if (!optDriver.isPresent()) {
                 long prior = System.currentTimeMillis();
                 
-                long timeOutInSeconds = config.getLong(SeleniumSettings.HOST_TIMEOUT.key());
-                DriverSessionWait wait = new DriverSessionWait(instance, timeOutInSeconds);
-                wait.ignoring(WebDriverException.class);
-                WebDriver driver = wait.until(driverIsAcquired(method));
+                // join session requested speculatively by preceding test (if any)
+                WebDriver driver = (instance instanceof DriverProvider) ? null : joinNextDriver();
+                if (driver == null) {
+                    driver = acquireDriver(instance, method, config);
+                }
                 
-                setDriverTimeouts(driver, config);
                 instance.setDriver(driver);
                 optDriver = Optional.of(driver);
                 if (instance.isTest(method)) {
                     long after = System.currentTimeMillis();
                     instance.adjustTimeout(after - prior);
+                    SESSION_WAIT.set(after - prior);
                 }
             }
             
+            // if speculative acquisition is enabled, request session for next test
+            if (instance.isTest(method) && !(instance instanceof DriverProvider)
+                            && config.getBoolean(SeleniumSettings.SPECULATIVE_SESSIONS.key())) {
+                requestNextDriver(instance, method, config);
+            }
+            
             // if driver acquired and initial page specified
             if ((optDriver.isPresent()) && (initialPage != null)) {
                 Page page = Page.openInitialPage(initialPage, optDriver.get(), config.getTargetUri());
@@ -146,20 +171,87 @@ public final class DriverManager {
         }
     }
 
+    /**
+     * If the specified method is a test, get the interval that its pre-invocation processing spent waiting for a
+     * driver session. This interval is reset.
+     * 
+     * @param obj test class instance
+     * @param method test method
+     * @return (optional) session wait interval in milliseconds; empty if no session was acquired for the test
+     */
+    public static Optional<Long> drainSessionWait(final Object obj, final Method method) {
+        if ((obj instanceof TestBase) && ((TestBase) obj).isTest(method)) {
+            Long sessionWait = SESSION_WAIT.get();
+            SESSION_WAIT.remove();
+            return Optional.ofNullable(sessionWait);
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * If the specified method is a test, get a summary of the command metrics recorded by the driver of the specified
+     * test class instance since the previous summary was taken. The recorded metrics are reset.
+     * 
+     * @param obj test class instance
+     * @param method test method
+     * @return (optional) command metrics summary
+     */
+    public static Optional<CommandMetrics.Summary> drainMetrics(final Object obj, final Method method) {
+        if ((obj instanceof TestBase) && ((TestBase) obj).isTest(method)) {
+            Optional<WebDriver> optDriver = nabDriver(obj);
+            if (optDriver.isPresent()) {
+                CommandMetrics metrics = CommandMetrics.of(optDriver.get());
+                if (metrics != null) {
+                    return Optional.of(metrics.drain());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+    
     /**
      * Perform post-suite processing:
      * <ul>
+     *     <li>Tear down sessions that were requested speculatively but never used.</li>
+     *     <li>Wait for pending {@link DriverTeardown driver teardowns} to complete.</li>
+     *     <li>Drain the command metrics recorded by those teardowns, which follow the per-test summaries.</li>
+     *     <li>Quit the idle sessions of the {@link DriverPool driver pool}.</li>
+     *     <li>Stop the {@link GridMonitor Grid monitor}.</li>
      *     <li>If a Selenium Grid node process was spawned, shut it down.</li>
      *     <li>If a Selenium Grid hub process was spawned, shut it down.</li>
      * </ul>
+     * 
+     * @return command metrics {@link CommandMetrics.Summary summary} of driver teardowns
      */
-    public static void onFinish() {
+    public static CommandMetrics.Summary onFinish() {
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(WaitType.HOST.getInterval());
+        for (CompletableFuture<WebDriver> nextDriver : NEXT_DRIVERS) {
+            NEXT_DRIVERS.remove(nextDriver);
+            try {
+                DriverTeardown.submit(nextDriver.get(timeoutMillis, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) { //NOSONAR
+                // session wasn't acquired; nothing to tear down
+            }
+        }
+        DriverTeardown.drain(timeoutMillis);
+        CommandMetrics.Summary teardownMetrics = CommandMetrics.drainRetired();
+        DriverPool.shutdown();
+        GridMonitor.stop();
         GridUtility.stopGridNode(true);
         GridUtility.stopGridHub(true);
+        return teardownMetrics;
     }
     
     /**
      * Set configured timeout intervals in the specified driver.
+     * <p>
+     * <b>NOTE</b>: The implicit wait interval is set to zero. Element and collection searches performed by
+     * <b>Selenium Foundation</b> poll for the {@link WaitType#IMPLIED implied} interval themselves. Code that alters
+     * the implicit wait interval must use {@link WebDriverUtils#setImplicitWait(WebDriver, long)}; intervals set
+     * directly via {@code manage().timeouts()} bypass its tracking, and searches would then wait for the altered
+     * interval on every poll.
      * 
      * @param driver driver object in which to configure timeout intervals
      * @param config configuration object that specifies timeout intervals
@@ -167,7 +259,7 @@ public final class DriverManager {
     public static void setDriverTimeouts(final WebDriver driver, final SeleniumConfig config) {
         Timeouts timeouts = driver.manage().timeouts();
         timeouts.setScriptTimeout(WaitType.SCRIPT.getInterval(config), TimeUnit.SECONDS);
-        timeouts.implicitlyWait(WaitType.IMPLIED.getInterval(config), TimeUnit.SECONDS);
+        WebDriverUtils.setImplicitWait(driver, 0);
         timeouts.pageLoadTimeout(WaitType.PAGE_LOAD.getInterval(config), TimeUnit.SECONDS);
     }
     
@@ -213,6 +305,10 @@ public final class DriverManager {
 
     /**
      * Close the Selenium driver attached to the specified test class instance.
+     * <p>
+     * <b>NOTE</b>: The driver is detached from the test class instance immediately, and is then torn down by
+     * {@link DriverTeardown}. If the driver was taken from the {@link DriverPool driver pool}, it's returned to the
+     * pool for reuse instead of being quit.
      * 
      * @param obj test class instance
      * @return an empty {@link Optional} object
@@ -221,28 +317,84 @@ public final class DriverManager {
         Optional<WebDriver> optDriver = nabDriver(obj);
         if (optDriver.isPresent()) {
             WebDriver driver = optDriver.get();
-            
-            try {
-                ((JavascriptExecutor) driver).executeScript("return window.stop");
-            } catch (WebDriverException | UnsupportedOperationException e) { //NOSONAR
-                // Let's make sure our graceful shutdown process doesn't cause failures.
-            }
-            
-            try {
-                driver.switchTo().alert().dismiss();
-            } catch (WebDriverException e) { //NOSONAR
-                // The driver throws an exception if no alert is present. This is normal and unavoidable.
-            }
-            
             ((TestBase) obj).setInitialPage(null);
             ((TestBase) obj).setDriver(null);
             optDriver = Optional.empty();
-            driver.quit();
+            DriverTeardown.submit(driver);
         }
         
         return optDriver;
     }
     
+    /**
+     * Acquire a driver session for the specified test method, configuring its timeout intervals.
+     * 
+     * @param instance test class instance
+     * @param method test method
+     * @param config configuration object
+     * @return new driver session
+     */
+    private static WebDriver acquireDriver(final TestBase instance, final Method method, final SeleniumConfig config) {
+        long timeOutInSeconds = config.getLong(SeleniumSettings.HOST_TIMEOUT.key());
+        DriverSessionWait wait = new DriverSessionWait(instance, timeOutInSeconds);
+        wait.ignoring(WebDriverException.class);
+        WebDriver driver = wait.until(driverIsAcquired(method));
+        setDriverTimeouts(driver, config);
+        return driver;
+    }
+    
+    /**
+     * Request a driver session for the next test that runs on the current thread. The session is acquired in the
+     * background while the current test runs.
+     * 
+     * @param instance test class instance
+     * @param method test method
+     * @param config configuration object
+     */
+    private static void requestNextDriver(final TestBase instance, final Method method, final SeleniumConfig config) {
+        if (NEXT_DRIVER.get() == null) {
+            CompletableFuture<WebDriver> nextDriver = CompletableFuture.supplyAsync(
+                            () -> acquireDriver(instance, method, config), SESSION_REQUESTER);
+            NEXT_DRIVERS.add(nextDriver);
+            NEXT_DRIVER.set(nextDriver);
+        }
+    }
+    
+    /**
+     * Join the driver session requested for the current thread by the preceding test.
+     * <p>
+     * <b>NOTE</b>: The requested session may have been idle for the duration of the preceding test, so its health is
+     * checked before it's joined. If the session is unresponsive, it's torn down and 'null' is returned, which causes
+     * the caller to acquire a session directly.
+     * 
+     * @return requested driver session; 'null' if no session was requested, the request failed, or the session is
+     *         unresponsive
+     */
+    private static WebDriver joinNextDriver() {
+        CompletableFuture<WebDriver> nextDriver = NEXT_DRIVER.get();
+        if (nextDriver != null) {
+            NEXT_DRIVER.remove();
+            if (NEXT_DRIVERS.remove(nextDriver)) {
+                WebDriver driver;
+                try {
+                    driver = nextDriver.join();
+                } catch (CompletionException | CancellationException e) { //NOSONAR
+                    // request failed; acquire session directly
+                    return null;
+                }
+                
+                try {
+                    driver.getWindowHandle();
+                    return driver;
+                } catch (WebDriverException e) { //NOSONAR
+                    // session is unresponsive; tear it down and acquire session directly
+                    DriverTeardown.submit(driver);
+                }
+            }
+        }
+        return null;
+    }
+    
     /**
      * Returns a 'wait' proxy that acquires a driver session.
      * 
@@ -262,7 +414,7 @@ public final class DriverManager {
                 if (instance instanceof DriverProvider) {
                     return ((DriverProvider) instance).provideDriver(instance, method);
                 } else {
-                    return GridUtility.getDriver();
+                    return DriverPool.getDriver(SeleniumConfig.getConfig().getBrowserCaps());
                 }
             }
             
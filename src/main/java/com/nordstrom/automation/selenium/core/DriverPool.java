@@ -0,0 +1,273 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+import com.nordstrom.automation.selenium.SeleniumConfig;
+import com.nordstrom.automation.selenium.model.ContainerMethodInterceptor;
+
+/**
+ * This class maintains pools of warm driver sessions, keyed by desired capabilities. Each pool pre-warms the number
+ * of sessions specified by the {@link SeleniumSettings#SESSION_POOL_SIZE SESSION_POOL_SIZE} setting in the
+ * background, and released sessions are recycled until they have been used the number of times specified by the
+ * {@link SeleniumSettings#SESSION_POOL_REUSE SESSION_POOL_REUSE} setting.
+ * <p>
+ * Before a pooled session is handed out, it's reset to a pristine state: additional windows are closed, cookies
+ * and storage of the current origin are cleared, and the blank page is loaded. Sessions that fail this reset are
+ * discarded.
+ * <p>
+ * <b>NOTE</b>: Pooling is disabled by default. Pre-warmed sessions occupy Grid node slots, so the pool size should
+ * be less than the number of slots available for the pooled capabilities.
+ */
+public final class DriverPool {
+    
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_STORAGE =
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }";
+    
+    private static final Map<Map<String, ?>, Pool> POOLS = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Lease> LEASES =
+                    Collections.synchronizedMap(new WeakHashMap<WebDriver, Lease>());
+    
+    private static final ExecutorService WARMER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-pool-warmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(DriverPool.class);
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DriverPool() {
+        throw new AssertionError("DriverPool is a static utility class that cannot be instantiated");
+    }
+    
+    /**
+     * Get a driver with the specified desired capabilities. If session pooling is enabled, a warm session is taken
+     * from the pool for these capabilities; otherwise, a new session is created.
+     *
+     * @param desiredCapabilities desired capabilities for the driver
+     * @return driver object
+     */
+    public static WebDriver getDriver(final Capabilities desiredCapabilities) {
+        int size = SeleniumConfig.getConfig().getInt(SeleniumSettings.SESSION_POOL_SIZE.key());
+        if (size <= 0) {
+            return GridUtility.getDriver(desiredCapabilities);
+        }
+        return POOLS.computeIfAbsent(desiredCapabilities.asMap(),
+                        k -> new Pool(desiredCapabilities, size)).acquire();
+    }
+    
+    /**
+     * Return the specified driver to its pool for reuse.
+     * <p>
+     * <b>NOTE</b>: If this method returns 'false', the caller is responsible for quitting the driver.
+     *
+     * @param driver driver object
+     * @return 'true' if the driver was recycled; 'false' if the driver isn't pooled or has been retired
+     */
+    public static boolean release(final WebDriver driver) {
+        Lease lease = LEASES.get(driver);
+        if (lease == null) {
+            return false;
+        }
+        if (lease.pool.recycle(driver, ++lease.uses)) {
+            return true;
+        }
+        LEASES.remove(driver);
+        return false;
+    }
+    
+    /**
+     * Quit the idle sessions of all pools and disable recycling of sessions that are still in use.
+     */
+    public static void shutdown() {
+        List<Pool> pools = new ArrayList<>(POOLS.values());
+        POOLS.clear();
+        for (Pool pool : pools) {
+            pool.close();
+        }
+    }
+    
+    /**
+     * Reset the specified driver to a pristine state.
+     *
+     * @param driver driver object
+     * @return 'true' if the driver was reset; 'false' if the session is unresponsive
+     */
+    private static boolean reset(final WebDriver driver) {
+        try {
+            Iterator<String> handles = driver.getWindowHandles().iterator();
+            String firstHandle = handles.next();
+            while (handles.hasNext()) {
+                driver.switchTo().window(handles.next()).close();
+            }
+            driver.switchTo().window(firstHandle);
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+            driver.manage().deleteAllCookies();
+            driver.get(BLANK_PAGE);
+            ContainerMethodInterceptor.forgetWindows(driver);
+            return true;
+        } catch (WebDriverException | UnsupportedOperationException e) { //NOSONAR
+            return false;
+        }
+    }
+    
+    /**
+     * Quit the specified driver, ignoring failures.
+     *
+     * @param driver driver object
+     */
+    private static void discard(final WebDriver driver) {
+        LEASES.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) { //NOSONAR
+            // session is already gone
+        }
+    }
+    
+    /**
+     * This class is a pool of warm sessions with a common set of desired capabilities.
+     */
+    private static final class Pool {
+        
+        private final Capabilities desiredCapabilities;
+        private final int size;
+        private final int maxReuse;
+        private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+        private int warming;
+        private volatile boolean closed;
+        
+        /**
+         * Constructor for session pool. Warming of the pooled sessions starts immediately.
+         *
+         * @param desiredCapabilities desired capabilities for pooled sessions
+         * @param size number of sessions to keep warm
+         */
+        Pool(final Capabilities desiredCapabilities, final int size) {
+            this.desiredCapabilities = desiredCapabilities;
+            this.size = size;
+            this.maxReuse = SeleniumConfig.getConfig().getInt(SeleniumSettings.SESSION_POOL_REUSE.key());
+            warm();
+        }
+        
+        /**
+         * Take a reset session from this pool, creating a new session if none are idle.
+         *
+         * @return driver object
+         */
+        WebDriver acquire() {
+            WebDriver driver;
+            while ((driver = idle.pollFirst()) != null) {
+                if (reset(driver)) {
+                    warm();
+                    return driver;
+                }
+                discard(driver);
+            }
+            warm();
+            driver = GridUtility.getDriver(desiredCapabilities);
+            LEASES.put(driver, new Lease(this));
+            return driver;
+        }
+        
+        /**
+         * Return the specified session to this pool.
+         *
+         * @param driver driver object
+         * @param uses number of times the session has been used
+         * @return 'true' if the session was returned to the pool; otherwise 'false'
+         */
+        boolean recycle(final WebDriver driver, final int uses) {
+            if (closed || (uses >= maxReuse) || (idle.size() >= size)) {
+                return false;
+            }
+            return idle.offerLast(driver);
+        }
+        
+        /**
+         * Start warming sessions to bring this pool up to its specified size.
+         */
+        synchronized void warm() {
+            while (!closed && (idle.size() + warming < size)) {
+                warming++;
+                WARMER.execute(this::warmSession);
+            }
+        }
+        
+        /**
+         * Create a new session and add it to this pool.
+         */
+        private void warmSession() {
+            WebDriver driver = null;
+            try {
+                driver = GridUtility.getDriver(desiredCapabilities);
+                LEASES.put(driver, new Lease(this));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to warm pooled driver session", e);
+            } finally {
+                synchronized (this) {
+                    warming--;
+                    if ((driver != null) && !closed) {
+                        idle.offerLast(driver);
+                        driver = null;
+                    }
+                }
+            }
+            if (driver != null) {
+                discard(driver);
+            }
+        }
+        
+        /**
+         * Close this pool, quitting all idle sessions.
+         */
+        void close() {
+            synchronized (this) {
+                closed = true;
+            }
+            WebDriver driver;
+            while ((driver = idle.pollFirst()) != null) {
+                discard(driver);
+            }
+        }
+    }
+    
+    /**
+     * This class records the pool and usage count of a pooled session.
+     */
+    private static final class Lease {
+        
+        private final Pool pool;
+        private int uses;
+        
+        /**
+         * Constructor for session lease.
+         *
+         * @param pool pool to which the session belongs
+         */
+        Lease(final Pool pool) {
+            this.pool = pool;
+        }
+    }
+}
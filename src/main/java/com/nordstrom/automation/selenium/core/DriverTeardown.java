@@ -0,0 +1,187 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+import com.nordstrom.automation.selenium.SeleniumConfig;
+
+/**
+ * This class tears down driver sessions on a bounded pool of background threads, enabling the next test to start
+ * while the session of the previous test is being quit. The number of teardown threads is specified by the
+ * {@link SeleniumSettings#QUIT_THREADS QUIT_THREADS} setting. If this setting is zero or the teardown queue is
+ * full, sessions are torn down on the calling thread.
+ * <p>
+ * <b>NOTE</b>: Pending teardowns are drained by {@link #drain(long)}, which is called by
+ * {@link DriverManager#onFinish()} before the local Grid is shut down.
+ */
+public final class DriverTeardown {
+    
+    private static final int QUEUE_FACTOR = 8;
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    private static final LongAccumulator PEAK = new LongAccumulator(Math::max, 0);
+    private static ThreadPoolExecutor executor;
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(DriverTeardown.class);
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DriverTeardown() {
+        throw new AssertionError("DriverTeardown is a static utility class that cannot be instantiated");
+    }
+    
+    /**
+     * Submit the specified driver for teardown.
+     *
+     * @param driver driver object
+     */
+    public static void submit(final WebDriver driver) {
+        ThreadPoolExecutor service = getExecutor();
+        if (service != null) {
+            PEAK.accumulate(PENDING.incrementAndGet());
+            try {
+                service.execute(() -> {
+                    try {
+                        teardown(driver);
+                    } finally {
+                        PENDING.decrementAndGet();
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException e) { //NOSONAR
+                // queue is full; tear down on this thread
+                PENDING.decrementAndGet();
+            }
+        }
+        teardown(driver);
+    }
+    
+    /**
+     * Wait for pending teardowns to complete, abandoning any that are still pending when the deadline expires.
+     *
+     * @param timeoutMillis maximum interval to wait in milliseconds
+     * @return 'true' if all pending teardowns completed; otherwise 'false'
+     */
+    public static boolean drain(final long timeoutMillis) {
+        ThreadPoolExecutor service;
+        synchronized (DriverTeardown.class) {
+            service = executor;
+            executor = null;
+        }
+        if (service == null) {
+            return true;
+        }
+        
+        service.shutdown();
+        boolean drained = false;
+        try {
+            drained = service.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        if (!drained) {
+            int abandoned = service.shutdownNow().size() + service.getActiveCount();
+            LOGGER.warn("Abandoned {} pending driver teardowns", abandoned);
+        }
+        LOGGER.debug("Peak driver teardown queue depth: {}", PEAK.get());
+        return drained;
+    }
+    
+    /**
+     * Get the number of driver teardowns that are queued or in progress.
+     *
+     * @return pending teardown count
+     */
+    public static int getPendingCount() {
+        return PENDING.get();
+    }
+    
+    /**
+     * Get the largest number of driver teardowns that have been pending at once.
+     *
+     * @return peak teardown queue depth
+     */
+    public static long getPeakPendingCount() {
+        return PEAK.get();
+    }
+    
+    /**
+     * Get the teardown executor, creating it if necessary.
+     *
+     * @return teardown executor; 'null' if teardowns are performed on the calling thread
+     */
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = SeleniumConfig.getConfig().getInt(SeleniumSettings.QUIT_THREADS.key());
+            if (threads > 0) {
+                executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                                new ArrayBlockingQueue<>(threads * QUEUE_FACTOR), runnable -> {
+                                    Thread thread = new Thread(runnable, "driver-teardown");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
+                executor.allowCoreThreadTimeOut(true);
+            }
+        }
+        return executor;
+    }
+    
+    /**
+     * Tear down the specified driver: stop page loading, dismiss any open alert, and either return the driver to
+     * the {@link DriverPool driver pool} or quit it. The commands issued are attributed to the
+     * {@link CommandMetrics#TEARDOWN_CALLER teardown} caller and {@link CommandMetrics#retire() retired}.
+     *
+     * @param driver driver object
+     */
+    private static void teardown(final WebDriver driver) {
+        CommandMetrics metrics = CommandMetrics.of(driver);
+        String caller = CommandMetrics.setCaller(CommandMetrics.TEARDOWN_CALLER);
+        try {
+            tearDownSession(driver);
+        } finally {
+            CommandMetrics.setCaller(caller);
+            if (metrics != null) {
+                metrics.retire();
+            }
+        }
+    }
+    
+    /**
+     * Issue the teardown commands for the specified driver.
+     *
+     * @param driver driver object
+     */
+    private static void tearDownSession(final WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("return window.stop");
+        } catch (WebDriverException | UnsupportedOperationException e) { //NOSONAR
+            // Let's make sure our graceful shutdown process doesn't cause failures.
+        }
+        
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (WebDriverException e) { //NOSONAR
+            // The driver throws an exception if no alert is present. This is normal and unavoidable.
+        }
+        
+        if (!DriverPool.release(driver)) {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                LOGGER.warn("Failed to quit driver session", e);
+            }
+        }
+    }
+}
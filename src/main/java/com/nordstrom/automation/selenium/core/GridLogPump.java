@@ -0,0 +1,285 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+
+/**
+ * This class pumps the output of a Selenium Grid server process into a size-limited log file, teeing each line into
+ * the SLF4J logger of the server role (e.g. - <b>selenium.grid.hub</b>).
+ * <ul>
+ *     <li>Output is read through a channel and written to <ins><i>&lt;name&gt;</i>.log</ins>. When this file reaches
+ *     the size specified by the {@link SeleniumSettings#GRID_LOG_SIZE GRID_LOG_SIZE} setting, it's compressed to
+ *     <ins><i>&lt;name&gt;</i>.1.log.gz</ins>, shifting older archives up by one.</li>
+ *     <li>The number of archives is limited by the {@link SeleniumSettings#GRID_LOG_RETAIN GRID_LOG_RETAIN} setting;
+ *     the oldest archive is deleted when this limit is exceeded.</li>
+ *     <li>Lines are logged at the level indicated by their content (e.g. - <b>WARNING</b>), or at the level of the
+ *     preceding line for continuation lines like stack traces. Lines below the level specified by the
+ *     {@link SeleniumSettings#GRID_LOG_LEVEL GRID_LOG_LEVEL} setting aren't logged.</li>
+ * </ul>
+ * <b>NOTE</b>: A log file left by a previous run is archived before output of the new process is written.
+ */
+final class GridLogPump implements Runnable {
+    
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_LINE = 8192;
+    private static final int LEVEL_SCAN = 64;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+    private static final String LOG_EXT = ".log";
+    private static final String ARCHIVE_EXT = ".log.gz";
+    
+    private final ReadableByteChannel source;
+    private final Path logsPath;
+    private final String baseName;
+    private final long maxSize;
+    private final int retain;
+    private final Level threshold;
+    private final Logger serverLogger;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private FileChannel target;
+    private Level lineLevel = Level.INFO;
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(GridLogPump.class);
+    
+    /**
+     * Constructor for Grid server log pump.
+     *
+     * @param gridRole Selenium Grid server role (either {@code hub} or {@code node})
+     * @param output output stream of the server process
+     * @param logsPath directory for log files
+     * @param baseName base name for log files
+     */
+    private GridLogPump(final String gridRole, final InputStream output, final Path logsPath,
+                    final String baseName) {
+        AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
+        this.source = Channels.newChannel(output);
+        this.logsPath = logsPath;
+        this.baseName = baseName;
+        this.maxSize = Math.max(1, config.getLong(SeleniumSettings.GRID_LOG_SIZE.key())) * BYTES_PER_MB;
+        this.retain = Math.max(0, config.getInt(SeleniumSettings.GRID_LOG_RETAIN.key()));
+        this.threshold = getThreshold(config.getString(SeleniumSettings.GRID_LOG_LEVEL.key()));
+        this.serverLogger = LoggerFactory.getLogger("selenium.grid." + gridRole);
+    }
+    
+    /**
+     * Start pumping the output of the specified Selenium Grid server process.
+     *
+     * @param gridRole Selenium Grid server role (either {@code hub} or {@code node})
+     * @param process server process (error output must be redirected to standard output)
+     * @param logsPath directory for log files
+     * @param baseName base name for log files
+     * @throws IOException If the log file can't be opened
+     */
+    static void start(final String gridRole, final Process process, final Path logsPath, final String baseName)
+                    throws IOException {
+        GridLogPump pump = new GridLogPump(gridRole, process.getInputStream(), logsPath, baseName);
+        pump.openLogFile();
+        Thread thread = new Thread(pump, baseName + "-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                scanLines(buffer);
+                buffer.rewind();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+                if (target.size() >= maxSize) {
+                    target.close();
+                    archiveLogFile();
+                    openLogFile();
+                }
+            }
+            if (line.size() > 0) {
+                logLine();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to pump output of Grid server {}", baseName, e);
+        } finally {
+            try {
+                source.close();
+                if (target != null) {
+                    target.close();
+                }
+            } catch (IOException e) { //NOSONAR
+                // nothing more to do
+            }
+        }
+    }
+    
+    /**
+     * Split the specified output chunk into lines, logging each completed line.
+     *
+     * @param buffer output chunk
+     */
+    private void scanLines(final ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                logLine();
+            } else if (b != '\r') {
+                line.write(b);
+                if (line.size() >= MAX_LINE) {
+                    logLine();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Log the accumulated line at its indicated level and reset the line buffer.
+     */
+    private void logLine() {
+        String text = new String(line.toByteArray(), Charset.defaultCharset());
+        line.reset();
+        
+        Level level = getLineLevel(text);
+        if (level != null) {
+            lineLevel = level;
+        }
+        
+        if ((threshold == null) || (lineLevel.compareTo(threshold) > 0)) {
+            return;
+        }
+        
+        switch (lineLevel) {
+            case ERROR:
+                serverLogger.error(text);
+                break;
+            case WARN:
+                serverLogger.warn(text);
+                break;
+            case INFO:
+                serverLogger.info(text);
+                break;
+            case DEBUG:
+                serverLogger.debug(text);
+                break;
+            default:
+                serverLogger.trace(text);
+                break;
+        }
+    }
+    
+    /**
+     * Open the active log file, archiving any file left by a previous run.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private void openLogFile() throws IOException {
+        if (target == null) {
+            Path logPath = logsPath.resolve(baseName + LOG_EXT);
+            if (Files.exists(logPath) && (Files.size(logPath) > 0)) {
+                archiveLogFile();
+            }
+        }
+        target = FileChannel.open(logsPath.resolve(baseName + LOG_EXT), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+    
+    /**
+     * Compress the active log file into the newest archive, shifting older archives and deleting the oldest.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private void archiveLogFile() throws IOException {
+        Path logPath = logsPath.resolve(baseName + LOG_EXT);
+        if (retain == 0) {
+            Files.deleteIfExists(logPath);
+            return;
+        }
+        
+        Files.deleteIfExists(getArchivePath(retain));
+        for (int i = retain - 1; i > 0; i--) {
+            Path archivePath = getArchivePath(i);
+            if (Files.exists(archivePath)) {
+                Files.move(archivePath, getArchivePath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(getArchivePath(1)))) {
+            Files.copy(logPath, out);
+        }
+        Files.delete(logPath);
+    }
+    
+    /**
+     * Get the path of the archive with the specified index.
+     *
+     * @param index archive index (1 = newest)
+     * @return archive path
+     */
+    private Path getArchivePath(final int index) {
+        return logsPath.resolve(baseName + "." + index + ARCHIVE_EXT);
+    }
+    
+    /**
+     * Get the level indicated by the content of the specified line.
+     *
+     * @param text line text
+     * @return indicated level; 'null' if the line indicates no level (e.g. - stack trace line)
+     */
+    private static Level getLineLevel(final String text) {
+        String head = (text.length() > LEVEL_SCAN) ? text.substring(0, LEVEL_SCAN) : text;
+        if (head.contains("SEVERE") || head.contains("ERROR")) {
+            return Level.ERROR;
+        }
+        if (head.contains("WARN")) {
+            return Level.WARN;
+        }
+        if (head.contains("INFO")) {
+            return Level.INFO;
+        }
+        if (head.contains("FINE") || head.contains("DEBUG")) {
+            return Level.DEBUG;
+        }
+        return null;
+    }
+    
+    /**
+     * Get the logging threshold specified by the indicated setting value.
+     *
+     * @param value setting value (e.g. - <b>WARN</b>)
+     * @return logging threshold; 'null' if output isn't logged
+     */
+    private static Level getThreshold(final String value) {
+        if ((value == null) || "OFF".equalsIgnoreCase(value)) {
+            return null;
+        }
+        try {
+            return Level.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid Grid log level '{}'; using WARN", value);
+            return Level.WARN;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.grid.common.GridRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+import com.nordstrom.automation.selenium.interfaces.GridStateListener;
+
+/**
+ * This class maintains the cached liveness state of the configured Selenium Grid hub and node. Once the hub is known
+ * to be active, a background thread probes the hub and node at the interval specified by the
+ * {@link SeleniumSettings#GRID_MONITOR_INTERVAL GRID_MONITOR_INTERVAL} setting, publishing liveness transitions to
+ * registered {@link GridStateListener} objects.
+ * <p>
+ * <b>NOTE</b>: If the monitor interval is zero, monitoring is disabled and the hub is never reported as active,
+ * which causes {@link GridUtility#getDriver()} to probe the hub for each new driver. If a driver can't be created
+ * while the hub is reported as active, the hub is marked inactive until the next probe confirms otherwise.
+ */
+public final class GridMonitor {
+    
+    private static volatile boolean hubActive;
+    private static volatile boolean nodeActive;
+    private static volatile ScheduledFuture<?> monitor;
+    
+    private static final List<GridStateListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "grid-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(GridMonitor.class);
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GridMonitor() {
+        throw new AssertionError("GridMonitor is a static utility class that cannot be instantiated");
+    }
+    
+    /**
+     * Determine if the configured Selenium Grid hub was active as of the most recent probe.
+     * 
+     * @return 'true' if hub is known to be active; otherwise 'false'
+     */
+    public static boolean isHubActive() {
+        return hubActive;
+    }
+    
+    /**
+     * Determine if the configured Selenium Grid node was active as of the most recent probe.
+     * 
+     * @return 'true' if node is known to be active; otherwise 'false'
+     */
+    public static boolean isNodeActive() {
+        return nodeActive;
+    }
+    
+    /**
+     * Register the specified Grid state listener.
+     * 
+     * @param listener Grid state listener
+     */
+    public static void addListener(final GridStateListener listener) {
+        LISTENERS.add(listener);
+    }
+    
+    /**
+     * Unregister the specified Grid state listener.
+     * 
+     * @param listener Grid state listener
+     */
+    public static void removeListener(final GridStateListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * Record that the configured Selenium Grid hub was found to be active or inactive, starting the background
+     * monitor if it's not already running. If monitoring is disabled, this method has no effect.
+     * 
+     * @param active 'true' if the hub is active; otherwise 'false'
+     */
+    static void setHubActive(final boolean active) {
+        if (startMonitor() && (hubActive != active)) {
+            hubActive = active;
+            publish(GridRole.HUB, active);
+        }
+    }
+    
+    /**
+     * Stop the background monitor and discard the cached liveness state.
+     */
+    public static synchronized void stop() {
+        if (monitor != null) {
+            monitor.cancel(false);
+            monitor = null;
+        }
+        hubActive = false;
+        nodeActive = false;
+    }
+    
+    /**
+     * Start the background monitor if it's enabled and not already running.
+     * 
+     * @return 'true' if the monitor is running; 'false' if monitoring is disabled
+     */
+    private static synchronized boolean startMonitor() {
+        if (monitor == null) {
+            AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
+            long interval = config.getLong(SeleniumSettings.GRID_MONITOR_INTERVAL.key());
+            if (interval > 0) {
+                monitor = EXECUTOR.scheduleWithFixedDelay(GridMonitor::refresh, interval, interval, TimeUnit.SECONDS);
+            }
+        }
+        return (monitor != null);
+    }
+    
+    /**
+     * Probe the configured Selenium Grid hub and node, publishing liveness transitions.
+     */
+    private static void refresh() {
+        if (monitor == null) {
+            return;
+        }
+        try {
+            AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
+            boolean hub = GridUtility.isHubActive(config);
+            boolean node = GridUtility.isNodeActive(config);
+            if (hubActive != hub) {
+                hubActive = hub;
+                publish(GridRole.HUB, hub);
+            }
+            if (nodeActive != node) {
+                nodeActive = node;
+                publish(GridRole.NODE, node);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Selenium Grid liveness probe failed", e);
+        }
+    }
+    
+    /**
+     * Publish the specified liveness transition to the registered listeners.
+     * 
+     * @param role server role (either HUB or NODE)
+     * @param active 'true' if the server became active; 'false' if it became inactive
+     */
+    private static void publish(final GridRole role, final boolean active) {
+        LOGGER.info("Selenium Grid {} is {}", role.toString().toLowerCase(), active ? "active" : "inactive");
+        for (GridStateListener listener : LISTENERS) {
+            try {
+                listener.gridStateChanged(role, active);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Grid state listener failed", e);
+            }
+        }
+    }
+}
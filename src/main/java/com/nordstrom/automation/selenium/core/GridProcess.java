@@ -14,6 +14,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
 import com.nordstrom.automation.selenium.exceptions.GridServerLaunchFailedException;
 import com.nordstrom.common.base.UncheckedThrow;
 import com.nordstrom.common.file.PathUtils;
@@ -23,16 +25,24 @@ import com.nordstrom.common.file.PathUtils;
  * the role of the server (either {@code hub} or {@code node}), and they get a {@link Process} object for managing
  * the server lifetime as a result.
  * <p>
- * The output of the process is redirected to a file named <ins>grid-<i>&lt;role&gt;</i>.log</ins> in the test context
- * output directory. Process error output is redirected, so this log file will contain both standard output and errors.
+ * The output of the process is pumped by a {@link GridLogPump} into a file named
+ * <ins>grid-<i>&lt;role&gt;</i>-<i>&lt;port&gt;</i>.log</ins> in the <b>logs</b> folder of the test context output
+ * directory, which is rotated into compressed archives when it reaches the configured size. Process error output is
+ * redirected, so this log file will contain both standard output and errors.
  * <p>
  * <b>NOTE</b>: If no test context is specified, the log file will be stored in the "current" directory of the parent
  * Java process.  
+ * <p>
+ * If the {@link SeleniumSettings#GRID_IN_PROCESS GRID_IN_PROCESS} setting is 'true', servers are instead launched
+ * inside the current Java process, each on a dedicated thread with an isolated class loader. The {@link Process}
+ * objects for in-process servers have no output streams (server output goes to the log of the current process),
+ * and destroying them stops the server.
  */
 @SuppressWarnings("squid:S1774")
 final class GridProcess {
     
     private static final String OPT_ROLE = "-role";
+    private static final String OPT_PORT = "-port";
     private static final String LOGS_PATH = "logs";
     
     /**
@@ -58,6 +68,10 @@ final class GridProcess {
         int optIndex = argsList.indexOf(OPT_ROLE);
         String gridRole = args[optIndex + 1];
         
+        if (AbstractSeleniumConfig.getConfig().getBoolean(SeleniumSettings.GRID_IN_PROCESS.key())) {
+            return InProcessServer.start(gridRole, launcherClassName, dependencyContexts, args);
+        }
+        
         argsList.add(0, launcherClassName);
         argsList.add(0, getClasspath(dependencyContexts));
         argsList.add(0, "-cp");
@@ -65,29 +79,41 @@ final class GridProcess {
         
         ProcessBuilder builder = new ProcessBuilder(argsList);
         
-        Path outputPath;
-        String outputDir = PathUtils.getBaseDir();
-        
-        try {
-            Path logsPath = Paths.get(outputDir, LOGS_PATH);
-            if (!logsPath.toFile().exists()) {
-                Files.createDirectories(logsPath);
-            }
-            outputPath = PathUtils.getNextPath(logsPath, "grid-" + gridRole, "log");
-        } catch (IOException e) {
-            throw new GridServerLaunchFailedException(gridRole, e);
+        String baseName = "grid-" + gridRole;
+        int portIndex = argsList.indexOf(OPT_PORT);
+        if ((portIndex != -1) && (portIndex < argsList.size() - 1)) {
+            baseName += "-" + argsList.get(portIndex + 1);
         }
         
         builder.redirectErrorStream(true);
-        builder.redirectOutput(outputPath.toFile());
         
+        Process process = null;
         try {
-            return builder.start();
+            Path logsPath = Paths.get(PathUtils.getBaseDir(), LOGS_PATH);
+            if (!logsPath.toFile().exists()) {
+                Files.createDirectories(logsPath);
+            }
+            process = builder.start();
+            GridLogPump.start(gridRole, process, logsPath, baseName);
+            return process;
         } catch (IOException e) {
+            if (process != null) {
+                process.destroy();
+            }
             throw new GridServerLaunchFailedException(gridRole, e);
         }
     }
     
+    /**
+     * Determine if the specified process is a Selenium Grid server running inside the current Java process.
+     * 
+     * @param process process object (may be 'null')
+     * @return 'true' if the process is an in-process server; otherwise 'false'
+     */
+    static boolean isInProcess(final Process process) {
+        return (process instanceof InProcessServer);
+    }
+    
     /**
      * Assemble a classpath array from the specified array of dependencies.
      * 
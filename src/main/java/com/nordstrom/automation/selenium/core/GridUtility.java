@@ -7,26 +7,42 @@ import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLEncoder;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.util.EntityUtils;
 import org.openqa.grid.common.GridRole;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.net.PortProber;
 import org.openqa.selenium.net.UrlChecker;
 import org.openqa.selenium.net.UrlChecker.TimeoutException;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.nordstrom.automation.selenium.AbstractSeleniumConfig;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
 import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
 import com.nordstrom.automation.selenium.exceptions.GridServerLaunchFailedException;
 import com.nordstrom.automation.selenium.exceptions.InvalidGridHostException;
+import com.nordstrom.automation.selenium.utility.DataUtils;
 import com.nordstrom.common.base.UncheckedThrow;
 
 /**
@@ -37,12 +53,24 @@ public final class GridUtility {
     private static final String GRID_ENDPOINT = "/wd/hub/";
     private static final String HUB_STATUS = "/grid/api/hub/";
     private static final String NODE_STATUS = "/wd/hub/status";
+    private static final String PROXY_STATUS = "/grid/api/proxy?id=";
     
+    private static final long READY_POLL_INTERVAL = 100;
     private static final long SHUTDOWN_DELAY = 15;
     private static final String HUB_SHUTDOWN = "/lifecycle-manager?action=shutdown";
     
+    private static final int HTTP_MAX_CONNECTIONS = 20;
+    private static final int HTTP_MAX_PER_ROUTE = 10;
+    private static final int HTTP_TIMEOUT = 5000;
+    private static final CloseableHttpClient HTTP_CLIENT = newHttpClient();
+    private static final Map<String, Boolean> LOCAL_HOSTS = new ConcurrentHashMap<>();
+    
+    private static final int SESSIONS_PER_CPU = 2;
+    private static volatile int parallelism = 1;
+    
     private static Process hubProcess;
     private static Process nodeProcess;
+    private static final List<Process> EXTRA_NODES = new ArrayList<>();
     private static final Logger LOGGER = LoggerFactory.getLogger(GridUtility.class);
     
     /**
@@ -54,7 +82,11 @@ public final class GridUtility {
     
     /**
      * Determine if the configured Selenium Grid hub is active.<br>
-     * <b>NOTE</b>: If configured for local execution, this method ensures that a local hub and node are active.
+     * <b>NOTE</b>: If configured for local execution, this method ensures that a local hub and node are active. The
+     * hub and node processes are launched concurrently; the node retries its registration until the hub is ready.
+     * The local Grid isn't reported as active until the hub reports that each launched node has registered.
+     * If the {@link #getLocalCapacity(AbstractSeleniumConfig) local Grid capacity} exceeds the session limit of the
+     * configured node, additional nodes are launched on free ports.
      * 
      * @return 'true' if configured hub is active; otherwise 'false'
      */
@@ -64,9 +96,54 @@ public final class GridUtility {
         
         try {
             if (!isActive && isLocalHost(config.getHubAuthority())) {
-                startGridServer(GridServerParms.getHubParms(config));
-                startGridServer(GridServerParms.getNodeParms(config));
-                isActive = true;
+                long launchTime = System.currentTimeMillis();
+                GridServerParms hubParms = GridServerParms.getHubParms(config);
+                GridServerParms nodeParms = GridServerParms.getNodeParms(config);
+                Map<GridServerParms, Process> extraNodes = new LinkedHashMap<>();
+                // launched processes that haven't been recorded yet; these are destroyed if the launch fails
+                List<Process> unrecorded = new ArrayList<>();
+                try {
+                    Process hubServer = launchGridServer(hubParms);
+                    unrecorded.add(hubServer);
+                    Process nodeServer = launchGridServer(nodeParms);
+                    unrecorded.add(nodeServer);
+                    if (nodeServer != null) {
+                        int nodeCount = getLocalNodeCount(config);
+                        for (int i = 1; i < nodeCount; i++) {
+                            GridServerParms extraParms =
+                                            GridServerParms.getNodeParms(config, PortProber.findFreePort());
+                            Process extraNode = launchGridServer(extraParms);
+                            extraNodes.put(extraParms, extraNode);
+                            unrecorded.add(extraNode);
+                        }
+                    }
+                    
+                    awaitGridServer(hubParms, hubServer, launchTime);
+                    if (hubServer != null) {
+                        setProcess(GridRole.HUB, hubServer);
+                        unrecorded.remove(hubServer);
+                    }
+                    awaitGridServer(nodeParms, nodeServer, launchTime);
+                    awaitRegistration(hubParms, nodeParms, nodeServer, launchTime);
+                    if (nodeServer != null) {
+                        setProcess(GridRole.NODE, nodeServer);
+                        unrecorded.remove(nodeServer);
+                        // records the extra nodes that activate and destroys the rest
+                        awaitExtraNodes(hubParms, extraNodes, launchTime);
+                        unrecorded.removeAll(extraNodes.values());
+                        int nodeCount = getExtraNodeCount() + 1;
+                        LOGGER.info("Local Selenium Grid capacity: {} sessions ({} nodes of {} sessions each)",
+                                        nodeCount * config.getNodeMaxSessions(), nodeCount,
+                                        config.getNodeMaxSessions());
+                    }
+                    isActive = true;
+                } finally {
+                    for (Process process : unrecorded) {
+                        if (process != null) {
+                            process.destroy();
+                        }
+                    }
+                }
             }
         } catch (GridServerLaunchFailedException e) {
             LOGGER.warn("Unable to launch Selenium Grid server", e);
@@ -86,22 +163,172 @@ public final class GridUtility {
     public static boolean isHubActive(AbstractSeleniumConfig config) {
         return isHostActive(config.getHubAuthority(), HUB_STATUS);
     }
+    
+    /**
+     * Determine if the configured Selenium Grid node is active.
+     * 
+     * @param config Selenium configuration object
+     * @return 'true' if configured node is active; otherwise 'false'
+     */
+    public static boolean isNodeActive(AbstractSeleniumConfig config) {
+        return isHostActive(config.getNodeAuthority(), NODE_STATUS);
+    }
+    
+    /**
+     * Set the number of tests that the current suite runs concurrently. This is used to size the local Grid.
+     * 
+     * @param threadCount number of concurrent tests
+     */
+    public static void setParallelism(final int threadCount) {
+        parallelism = Math.max(1, threadCount);
+    }
+    
+    /**
+     * Get the number of concurrent sessions that the local Grid should support. If the
+     * {@link SeleniumSettings#GRID_CAPACITY GRID_CAPACITY} setting is positive, this value is used. Otherwise, the
+     * capacity is the {@link #setParallelism(int) parallelism} of the current suite, limited to two sessions per
+     * available processor.
+     * 
+     * @param config Selenium configuration object
+     * @return local Grid session capacity
+     */
+    public static int getLocalCapacity(final AbstractSeleniumConfig config) {
+        int capacity = config.getInt(SeleniumSettings.GRID_CAPACITY.key());
+        if (capacity <= 0) {
+            capacity = Math.min(parallelism, Runtime.getRuntime().availableProcessors() * SESSIONS_PER_CPU);
+        }
+        return capacity;
+    }
+    
+    /**
+     * Get the number of nodes needed to provide the {@link #getLocalCapacity(AbstractSeleniumConfig) capacity} of
+     * the local Grid.
+     * 
+     * @param config Selenium configuration object
+     * @return local Grid node count
+     */
+    private static int getLocalNodeCount(final AbstractSeleniumConfig config) {
+        int sessionsPerNode = Math.max(1, config.getNodeMaxSessions());
+        return Math.max(1, (getLocalCapacity(config) + sessionsPerNode - 1) / sessionsPerNode);
+    }
 
     /**
-     * Start the specified Selenium Grid server.
+     * Launch the specified Selenium Grid server if it's not already active.
+     * 
+     * @param serverParms Selenium Grid server parameters
+     * @return Grid server process; 'null' if server is already active
+     */
+    private static Process launchGridServer(final GridServerParms serverParms) {
+        if (isHostActive(serverParms.serverHost, serverParms.statusRequest)) {
+            return null;
+        }
+        AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
+        String launcherClassName = config.getLauncherClassName();
+        String[] dependencyContexts = config.getDependencyContexts();
+        return GridProcess.start(launcherClassName, dependencyContexts, serverParms.processArgs);
+    }
+    
+    /**
+     * Wait for the specified launched Selenium Grid server to become active, polling its status endpoint.
      * 
      * @param serverParms Selenium Grid server parameters
+     * @param serverProcess Grid server process; 'null' if server was already active
+     * @param launchTime time at which the Grid servers were launched (from {@link System#currentTimeMillis()})
      * @throws TimeoutException If Grid server took too long to activate.
      */
-    private static void startGridServer(final GridServerParms serverParms) throws TimeoutException {
-        if (!isHostActive(serverParms.serverHost, serverParms.statusRequest)) {
-            AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
-            String launcherClassName = config.getLauncherClassName();
-            String[] dependencyContexts = config.getDependencyContexts();
-            
-            Process serverProcess = GridProcess.start(launcherClassName, dependencyContexts, serverParms.processArgs);
-            new UrlChecker().waitUntilAvailable(WaitType.HOST.getInterval(), TimeUnit.SECONDS, serverParms.statusUrl);
-            setProcess(serverParms.processRole, serverProcess);
+    private static void awaitGridServer(final GridServerParms serverParms, final Process serverProcess,
+                    final long launchTime) throws TimeoutException {
+        if (serverProcess == null) {
+            return;
+        }
+        
+        String role = serverParms.processRole.toString().toLowerCase();
+        long deadline = launchTime + TimeUnit.SECONDS.toMillis(WaitType.HOST.getInterval());
+        while (!isHostActive(serverParms.serverHost, serverParms.statusRequest)) {
+            if (!serverProcess.isAlive()) {
+                throw new GridServerLaunchFailedException(role,
+                                new IOException("Process exited with code " + serverProcess.exitValue()));
+            }
+            if (System.currentTimeMillis() > deadline) {
+                serverProcess.destroy();
+                throw new TimeoutException(
+                                "Timed out waiting for " + serverParms.statusUrl + " to be available", null);
+            }
+            try {
+                Thread.sleep(READY_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted waiting for " + serverParms.statusUrl, e);
+            }
+        }
+        
+        LOGGER.info("Selenium Grid {} active after {}ms", role, System.currentTimeMillis() - launchTime);
+    }
+    
+    /**
+     * Wait for the specified launched Selenium Grid node to register with the specified hub. A node answers its own
+     * status endpoint before its registration completes, so the hub is polled for the proxy of the node.
+     * 
+     * @param hubParms Selenium Grid hub parameters
+     * @param nodeParms Selenium Grid node parameters
+     * @param nodeProcess Grid node process; 'null' if node was already active
+     * @param launchTime time at which the Grid servers were launched (from {@link System#currentTimeMillis()})
+     * @throws TimeoutException If Grid node took too long to register.
+     */
+    private static void awaitRegistration(final GridServerParms hubParms, final GridServerParms nodeParms,
+                    final Process nodeProcess, final long launchTime) throws TimeoutException {
+        if (nodeProcess == null) {
+            return;
+        }
+        
+        long deadline = launchTime + TimeUnit.SECONDS.toMillis(WaitType.HOST.getInterval());
+        while (!isNodeRegistered(hubParms.serverHost, nodeParms.serverHost)) {
+            if (!nodeProcess.isAlive()) {
+                throw new GridServerLaunchFailedException("node",
+                                new IOException("Process exited with code " + nodeProcess.exitValue()));
+            }
+            if (System.currentTimeMillis() > deadline) {
+                nodeProcess.destroy();
+                throw new TimeoutException("Timed out waiting for node " + nodeParms.serverHost
+                                + " to register with hub " + hubParms.serverHost, null);
+            }
+            try {
+                Thread.sleep(READY_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted waiting for node " + nodeParms.serverHost
+                                + " to register", e);
+            }
+        }
+        
+        LOGGER.info("Selenium Grid node {} registered after {}ms", nodeParms.serverHost,
+                        System.currentTimeMillis() - launchTime);
+    }
+    
+    /**
+     * Wait for the specified additional Selenium Grid nodes to become active and register with the hub. Nodes that
+     * fail to activate are destroyed, reducing the capacity of the local Grid.
+     * 
+     * @param hubParms Selenium Grid hub parameters
+     * @param extraNodes map of node parameters to launched node processes
+     * @param launchTime time at which the Grid servers were launched (from {@link System#currentTimeMillis()})
+     */
+    private static void awaitExtraNodes(final GridServerParms hubParms, final Map<GridServerParms, Process> extraNodes,
+                    final long launchTime) {
+        for (Map.Entry<GridServerParms, Process> entry : extraNodes.entrySet()) {
+            Process extraNode = entry.getValue();
+            try {
+                awaitGridServer(entry.getKey(), extraNode, launchTime);
+                awaitRegistration(hubParms, entry.getKey(), extraNode, launchTime);
+                if (extraNode != null) {
+                    addExtraNode(extraNode);
+                }
+            } catch (GridServerLaunchFailedException | TimeoutException e) {
+                LOGGER.warn("Unable to launch additional Selenium Grid node at {}", entry.getKey().serverHost, e);
+                if (extraNode != null) {
+                    extraNode.destroy();
+                }
+            }
         }
     }
     
@@ -124,6 +351,23 @@ public final class GridUtility {
         }
     }
 
+    /**
+     * Get the Selenium Grid server process with the specified role.
+     * 
+     * @param processRole Selenium Grid server role (either HUB or NODE)
+     * @return Selenium Grid server process; 'null' if none
+     */
+    private static synchronized Process getProcess(final GridRole processRole) {
+        switch (processRole) {
+            case HUB:
+                return hubProcess;
+            case NODE:
+                return nodeProcess;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+    
     /**
      * Determine if the specified Selenium Grid host (hub or node) is active.
      * 
@@ -134,14 +378,45 @@ public final class GridUtility {
     private static boolean isHostActive(final HttpHost host, final String request) {
         try {
             HttpResponse response = getHttpResponse(host, request);
+            EntityUtils.consumeQuietly(response.getEntity());
             return (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK);
         } catch (IOException e) { //NOSONAR
             return false;
         }
     }
     
+    /**
+     * Determine if the specified Selenium Grid node has registered with the specified hub.
+     * <p>
+     * <b>NOTE</b>: The hub answers proxy status requests for unknown nodes with a response that indicates failure,
+     * so the content of the response is examined.
+     * 
+     * @param hubHost HTTP host connection of the hub
+     * @param nodeHost HTTP host connection of the node
+     * @return 'true' if the hub reports the specified node; otherwise 'false'
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean isNodeRegistered(final HttpHost hubHost, final HttpHost nodeHost) {
+        try {
+            String request = PROXY_STATUS + URLEncoder.encode(nodeHost.toURI(), "UTF-8");
+            HttpResponse response = getHttpResponse(hubHost, request);
+            String content = EntityUtils.toString(response.getEntity());
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                return false;
+            }
+            Map status = DataUtils.fromString(content, Map.class);
+            return (status != null) && Boolean.TRUE.equals(status.get("success"));
+        } catch (IOException e) { //NOSONAR
+            return false;
+        }
+    }
+    
     /**
      * Send the specified GET request to the indicated host.
+     * <p>
+     * <b>NOTE</b>: Requests are sent by a shared client with a bounded pool of keep-alive connections. To return the
+     * connection to the pool, the caller must consume the entity of the response (e.g. - with
+     * {@link EntityUtils#consumeQuietly(org.apache.http.HttpEntity) EntityUtils.consumeQuietly}).
      * 
      * @param host target HTTP host connection
      * @param request request path (may include parameters)
@@ -149,23 +424,67 @@ public final class GridUtility {
      * @throws IOException The request triggered an I/O exception
      */
     public static HttpResponse getHttpResponse(final HttpHost host, final String request) throws IOException {
-        HttpClient client = HttpClientBuilder.create().build();
         URL sessionURL = new URL(host.toURI() + request);
         BasicHttpEntityEnclosingRequest basicHttpEntityEnclosingRequest = 
                 new BasicHttpEntityEnclosingRequest("GET", sessionURL.toExternalForm());
-        return client.execute(host, basicHttpEntityEnclosingRequest);
+        return HTTP_CLIENT.execute(host, basicHttpEntityEnclosingRequest);
+    }
+    
+    /**
+     * Create the shared HTTP client for Selenium Grid requests.
+     * 
+     * @return pooling HTTP client with short timeouts
+     */
+    private static CloseableHttpClient newHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(HTTP_MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(HTTP_MAX_PER_ROUTE);
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(HTTP_TIMEOUT)
+                        .setConnectionRequestTimeout(HTTP_TIMEOUT).setSocketTimeout(HTTP_TIMEOUT).build();
+        return HttpClientBuilder.create().setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(requestConfig).build();
     }
     
     /**
      * Get the Selenium driver for the specified test class instance.
+     * <p>
+     * <b>NOTE</b>: The driver records the {@link CommandMetrics metrics} of the commands it issues.
      * 
      * @return driver object (may be 'null')
      */
     public static WebDriver getDriver() {
+        return getDriver(AbstractSeleniumConfig.getConfig().getBrowserCaps());
+    }
+    
+    /**
+     * Get a Selenium driver with the specified desired capabilities.
+     * <p>
+     * <b>NOTE</b>: The driver records the {@link CommandMetrics metrics} of the commands it issues.
+     * <p>
+     * <b>NOTE</b>: If the {@link GridMonitor Grid monitor} reports that the hub is active, the hub isn't probed.
+     * 
+     * @param desiredCapabilities desired capabilities for the driver
+     * @return driver object (may be 'null')
+     */
+    public static WebDriver getDriver(final Capabilities desiredCapabilities) {
         AbstractSeleniumConfig config = AbstractSeleniumConfig.getConfig();
         GridServerParms hubParms = GridServerParms.getHubParms(config);
-        if (isHubActive()) {
-            return new RemoteWebDriver(hubParms.endpointUrl, config.getBrowserCaps());
+        
+        boolean isActive = GridMonitor.isHubActive();
+        if (!isActive) {
+            isActive = isHubActive();
+            GridMonitor.setHubActive(isActive);
+        }
+        
+        if (isActive) {
+            CommandExecutor executor = new MetricsCommandExecutor(new HttpCommandExecutor(hubParms.endpointUrl));
+            try {
+                return new RemoteWebDriver(executor, desiredCapabilities);
+            } catch (WebDriverException e) {
+                // hub may have gone down since last probe
+                GridMonitor.setHubActive(false);
+                throw e;
+            }
         } else {
             throw new IllegalStateException("No Selenium Grid instance was found at " + hubParms.endpointUrl);
         }
@@ -178,6 +497,7 @@ public final class GridUtility {
      * @return 'false' if [localOnly] and node is remote; otherwise 'true'
      */
     public static boolean stopGridNode(final boolean localOnly) {
+        stopExtraNodes();
         return stopGridServer(GridServerParms.getNodeParms(AbstractSeleniumConfig.getConfig()), localOnly);
     }
     
@@ -206,7 +526,13 @@ public final class GridUtility {
         if (isHostActive(serverParms.serverHost, serverParms.statusRequest)) {
             try {
                 URL hostUrl = URI.create(serverParms.serverHost.toURI()).toURL();
-                GridUtility.getHttpResponse(serverParms.serverHost, serverParms.shutdownRequest);
+                if (GridProcess.isInProcess(getProcess(serverParms.processRole))) {
+                    // stop in-process server directly; its shutdown request would exit this JVM
+                    setProcess(serverParms.processRole, null);
+                } else {
+                    HttpResponse response = getHttpResponse(serverParms.serverHost, serverParms.shutdownRequest);
+                    EntityUtils.consumeQuietly(response.getEntity());
+                }
                 new UrlChecker().waitUntilUnavailable(SHUTDOWN_DELAY, TimeUnit.SECONDS, hostUrl);
             } catch (IOException | TimeoutException e) {
                 throw UncheckedThrow.throwUnchecked(e);
@@ -242,13 +568,15 @@ public final class GridUtility {
      * @return 'true' if server is local host; otherwise 'false'
      */
     public static boolean isLocalHost(HttpHost host) {
-        try {
-            InetAddress addr = InetAddress.getByName(host.getHostName());
-            return (GridUtility.isThisMyIpAddress(addr));
-        } catch (UnknownHostException e) {
-            LOGGER.warn("Unable to get IP address for '{}'", host.getHostName(), e);
-            return false;
-        }
+        return LOCAL_HOSTS.computeIfAbsent(host.getHostName(), hostName -> {
+            try {
+                InetAddress addr = InetAddress.getByName(hostName);
+                return (GridUtility.isThisMyIpAddress(addr));
+            } catch (UnknownHostException e) {
+                LOGGER.warn("Unable to get IP address for '{}'", hostName, e);
+                return false;
+            }
+        });
     }
     
     /**
@@ -317,10 +645,41 @@ public final class GridUtility {
          * @return Grid node parameters object
          */
         public static GridServerParms getNodeParms(final AbstractSeleniumConfig config) {
+            return getNodeParms(config, config.getNodeArgs(), config.getNodeAuthority());
+        }
+        
+        /**
+         * Assemble parameters object for an additional Selenium Grid node on the specified port.
+         * 
+         * @param config WebDriver/Grid configuration
+         * @param port port for the additional node
+         * @return Grid node parameters object
+         */
+        public static GridServerParms getNodeParms(final AbstractSeleniumConfig config, final int port) {
+            String[] processArgs = config.getNodeArgs();
+            for (int i = 0; i < processArgs.length - 1; i++) {
+                if ("-port".equals(processArgs[i])) {
+                    processArgs[i + 1] = Integer.toString(port);
+                }
+            }
+            HttpHost serverHost = new HttpHost(config.getNodeHost(), port);
+            return getNodeParms(config, processArgs, serverHost);
+        }
+        
+        /**
+         * Assemble parameters object for a Selenium Grid node with the specified arguments and authority.
+         * 
+         * @param config WebDriver/Grid configuration
+         * @param processArgs node launch arguments
+         * @param serverHost node server authority
+         * @return Grid node parameters object
+         */
+        private static GridServerParms getNodeParms(final AbstractSeleniumConfig config, final String[] processArgs,
+                        final HttpHost serverHost) {
             GridServerParms parms = new GridServerParms();
             parms.processRole = GridRole.NODE;
-            parms.processArgs = config.getNodeArgs();
-            parms.serverHost = config.getNodeAuthority();
+            parms.processArgs = processArgs;
+            parms.serverHost = serverHost;
             parms.statusRequest = NODE_STATUS;
             parms.shutdownRequest = config.getNodeShutdownRequest();
             
@@ -372,4 +731,34 @@ public final class GridUtility {
         nodeProcess = process;
         return hasNodeProcess;
     }
+    
+    /**
+     * Add the specified process to the collection of additional Selenium Grid node processes.
+     * 
+     * @param process Selenium Grid node process
+     */
+    private static synchronized void addExtraNode(final Process process) {
+        LOGGER.debug("Adding additional Grid node process {}", process);
+        EXTRA_NODES.add(process);
+    }
+    
+    /**
+     * Get the number of additional Selenium Grid node processes.
+     * 
+     * @return additional node count
+     */
+    private static synchronized int getExtraNodeCount() {
+        return EXTRA_NODES.size();
+    }
+    
+    /**
+     * Stop all additional Selenium Grid node processes.
+     */
+    private static synchronized void stopExtraNodes() {
+        for (Process process : EXTRA_NODES) {
+            LOGGER.debug("Destroying additional Grid node process {}", process);
+            process.destroy();
+        }
+        EXTRA_NODES.clear();
+    }
 }
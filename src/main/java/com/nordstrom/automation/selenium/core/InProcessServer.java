@@ -0,0 +1,292 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSource;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.selenium.exceptions.GridServerLaunchFailedException;
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This class runs a Selenium Grid server inside the current Java process, presenting it as a {@link Process} so that
+ * it can be managed like a server launched in its own process.
+ * <p>
+ * The server is loaded by an isolated class loader (whose parent is the extension class loader) from the entries of
+ * the current class path and the locations of the specified dependency contexts. Unlike the separate-process launch
+ * mode, dependencies may be loaded from directories. The server is launched on a dedicated thread in its own
+ * {@link ThreadGroup}:
+ * <ul>
+ *     <li>If the launcher class declares an instance {@code launch(String[])} method, this method is used. It must
+ *     return an object with a {@code stop()} method (optionally wrapped in an {@link Optional}), which is used to
+ *     stop the server.</li>
+ *     <li>Otherwise, the static {@code main(String[])} method of the launcher class is invoked.</li>
+ * </ul>
+ * If the launcher fails, or doesn't return within the launch timeout (30 seconds), the server is destroyed and
+ * {@link GridServerLaunchFailedException} is thrown.
+ * Destroying the process stops the server (if possible), interrupts the threads of its thread group, and closes its
+ * class loader.
+ * <p>
+ * <b>NOTE</b>: In-process servers must not be stopped with their HTTP shutdown requests, which exit the hosting
+ * process. {@link GridUtility#stopGridServer} stops them by destroying their process objects instead.
+ */
+final class InProcessServer extends Process {
+    
+    private static final int EXIT_DESTROYED = 143;
+    private static final long LAUNCH_TIMEOUT = 30;
+    
+    private final String gridRole;
+    private final URLClassLoader loader;
+    private final ThreadGroup threadGroup;
+    private final CountDownLatch exited = new CountDownLatch(1);
+    private volatile Object stoppable;
+    private volatile Integer exitValue;
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(InProcessServer.class);
+    
+    /**
+     * Constructor for in-process Selenium Grid server.
+     *
+     * @param gridRole Selenium Grid server role (either {@code hub} or {@code node})
+     * @param loader isolated class loader for the server
+     */
+    private InProcessServer(final String gridRole, final URLClassLoader loader) {
+        this.gridRole = gridRole;
+        this.loader = loader;
+        this.threadGroup = new ThreadGroup("grid-" + gridRole);
+    }
+    
+    /**
+     * Start a Selenium Grid server with the specified arguments inside the current process.
+     *
+     * @param gridRole Selenium Grid server role (either {@code hub} or {@code node})
+     * @param launcherClassName fully-qualified name of {@code GridLauncher} class
+     * @param dependencyContexts fully-qualified names of context classes for Selenium Grid dependencies
+     * @param args Selenium server command line arguments
+     * @return {@link Process} object for managing the in-process server
+     * @throws GridServerLaunchFailedException If the server failed to launch
+     */
+    static Process start(final String gridRole, final String launcherClassName, final String[] dependencyContexts,
+                    final String[] args) {
+        
+        URLClassLoader loader;
+        try {
+            loader = new URLClassLoader(getClasspathUrls(dependencyContexts),
+                            ClassLoader.getSystemClassLoader().getParent());
+        } catch (IOException e) {
+            throw new GridServerLaunchFailedException(gridRole, e);
+        }
+        
+        InProcessServer server = new InProcessServer(gridRole, loader);
+        CountDownLatch launched = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread launcher = new Thread(server.threadGroup, () -> {
+            try {
+                server.launch(launcherClassName, args);
+            } catch (InvocationTargetException e) {
+                failure.set(e.getCause());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                failure.set(e);
+            } finally {
+                launched.countDown();
+            }
+        }, "grid-" + gridRole + "-launcher");
+        launcher.setContextClassLoader(loader);
+        launcher.start();
+        
+        IOException cause = null;
+        try {
+            if (!launched.await(LAUNCH_TIMEOUT, TimeUnit.SECONDS)) {
+                cause = new IOException("Launcher didn't return within " + LAUNCH_TIMEOUT + " seconds");
+            } else if (failure.get() != null) {
+                cause = new IOException("Launcher failed", failure.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = new IOException("Interrupted waiting for launcher", e);
+        }
+        
+        if (cause != null) {
+            server.destroy();
+            throw new GridServerLaunchFailedException(gridRole, cause);
+        }
+        return server;
+    }
+    
+    /**
+     * Launch the server using the specified launcher class.
+     *
+     * @param launcherClassName fully-qualified name of {@code GridLauncher} class
+     * @param args Selenium server command line arguments
+     * @throws ReflectiveOperationException If the launcher can't be invoked
+     * @throws IllegalStateException If the {@code launch(String[])} method didn't provide a way to stop the server
+     */
+    private void launch(final String launcherClassName, final String[] args) throws ReflectiveOperationException {
+        Class<?> launcherClass = Class.forName(launcherClassName, true, loader);
+        Method launch;
+        Object instance;
+        try {
+            launch = launcherClass.getMethod("launch", String[].class);
+            instance = launcherClass.newInstance();
+        } catch (NoSuchMethodException | InstantiationException e) { //NOSONAR
+            Method main = launcherClass.getMethod("main", String[].class);
+            main.invoke(null, (Object) args);
+            return;
+        }
+        
+        Object result = launch.invoke(instance, (Object) args);
+        if (result instanceof Optional) {
+            result = ((Optional<?>) result).orElse(null);
+        }
+        if (result == null) {
+            throw new IllegalStateException("Launcher returned no server object");
+        }
+        try {
+            result.getClass().getMethod("stop");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(
+                            "Server object " + result.getClass().getName() + " has no stop() method", e);
+        }
+        stoppable = result;
+    }
+    
+    /**
+     * Assemble the class path for the isolated class loader.
+     *
+     * @param dependencyContexts fully-qualified names of context classes for Selenium Grid dependencies
+     * @return array of class path URLs
+     * @throws MalformedURLException If a class path entry can't be converted to a URL
+     */
+    private static URL[] getClasspathUrls(final String[] dependencyContexts) throws MalformedURLException {
+        Set<URL> urls = new LinkedHashSet<>();
+        for (String contextClassName : dependencyContexts) {
+            try {
+                CodeSource codeSource = Class.forName(contextClassName).getProtectionDomain().getCodeSource();
+                if (codeSource != null) {
+                    urls.add(codeSource.getLocation());
+                }
+            } catch (ClassNotFoundException e) {
+                throw UncheckedThrow.throwUnchecked(e);
+            }
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+        }
+        return urls.toArray(new URL[urls.size()]);
+    }
+    
+    /**
+     * Record that this server has exited with the specified exit value.
+     *
+     * @param value exit value
+     */
+    private synchronized void exit(final int value) {
+        if (exitValue == null) {
+            exitValue = value;
+            exited.countDown();
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputStream getOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(final int b) {
+                // in-process server has no input
+            }
+        };
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getErrorStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int waitFor() throws InterruptedException {
+        exited.await();
+        return exitValue;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int exitValue() {
+        Integer value = exitValue;
+        if (value == null) {
+            throw new IllegalThreadStateException("In-process Grid " + gridRole + " is still running");
+        }
+        return value;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroy() {
+        if (exitValue != null) {
+            return;
+        }
+        
+        Object server = stoppable;
+        if (server != null) {
+            try {
+                server.getClass().getMethod("stop").invoke(server);
+            } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException e) {
+                LOGGER.warn("Failed to stop in-process Grid {}", gridRole, e);
+            }
+        }
+        
+        threadGroup.interrupt();
+        try {
+            loader.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close class loader of in-process Grid {}", gridRole, e);
+        }
+        exit(EXIT_DESTROYED);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "in-process Grid " + gridRole + (exitValue == null ? "" : " (exit value: " + exitValue + ")");
+    }
+}
@@ -0,0 +1,59 @@
+package com.nordstrom.automation.selenium.core;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * This class wraps the command executor of a driver session, recording the count and latency of each executed
+ * command in the {@link CommandMetrics} of the session.
+ */
+public class MetricsCommandExecutor implements CommandExecutor {
+    
+    private final CommandExecutor executor;
+    private final CommandMetrics metrics = new CommandMetrics();
+    
+    /**
+     * Constructor for metrics-recording command executor.
+     * 
+     * @param executor command executor to be wrapped
+     */
+    public MetricsCommandExecutor(final CommandExecutor executor) {
+        this.executor = Objects.requireNonNull(executor, "[executor] must be non-null");
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(final Command command) throws IOException {
+        long initialTime = System.nanoTime();
+        try {
+            return executor.execute(command);
+        } finally {
+            String sessionId = (command.getSessionId() != null) ? command.getSessionId().toString() : null;
+            metrics.record(sessionId, command.getName(), System.nanoTime() - initialTime);
+        }
+    }
+    
+    /**
+     * Get the command executor wrapped by this executor.
+     * 
+     * @return wrapped command executor
+     */
+    public CommandExecutor getWrappedExecutor() {
+        return executor;
+    }
+    
+    /**
+     * Get the command metrics recorded by this executor.
+     * 
+     * @return command metrics
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+}
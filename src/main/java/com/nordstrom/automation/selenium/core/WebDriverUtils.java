@@ -4,6 +4,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +43,9 @@ public final class WebDriverUtils {
                     "^(?:sun\\.reflect|java\\.lang"
                     + "|org\\.(?:openqa|testng|junit|hamcrest)"
                     + "|com\\.nordstrom\\.automation\\.selenium)\\.");
+    
+    private static final Map<WebDriver, Long> IMPLICIT_WAITS =
+                    Collections.synchronizedMap(new WeakHashMap<WebDriver, Long>());
             
     /**
      * Private constructor to prevent instantiation.
@@ -105,6 +111,25 @@ public final class WebDriverUtils {
         }
     }
 
+    /**
+     * Set the implicit wait interval of the specified driver.
+     * <p>
+     * <b>NOTE</b>: The interval most recently set through this method is tracked for each driver, and the command
+     * is only sent to the driver if the specified interval differs from the tracked value. Intervals set directly via
+     * the {@link org.openqa.selenium.WebDriver.Timeouts Timeouts} interface bypass this tracking, leaving the tracked
+     * value out of date so that later calls may skip the command; always alter the interval through this method.
+     * 
+     * @param driver driver object in which to set the implicit wait interval
+     * @param seconds implicit wait interval in seconds
+     */
+    public static void setImplicitWait(final WebDriver driver, final long seconds) {
+        Long interval = Long.valueOf(seconds);
+        if (!interval.equals(IMPLICIT_WAITS.get(driver))) {
+            driver.manage().timeouts().implicitlyWait(seconds, TimeUnit.SECONDS);
+            IMPLICIT_WAITS.put(driver, interval);
+        }
+    }
+    
     /**
      * Remove hidden elements from specified list
      * 
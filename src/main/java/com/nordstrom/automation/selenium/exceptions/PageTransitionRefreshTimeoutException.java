@@ -6,7 +6,7 @@ import com.nordstrom.automation.selenium.model.ContainerMethodInterceptor;
 
 /**
  * This exception is associated with {@link ContainerMethodInterceptor#intercept(Object, Method, Object[], Callable)}
- * and indicates that the parent page reference element failed to go "stale" within the timeout interval.
+ * and indicates that the parent page failed to be replaced within the timeout interval.
  */
 public class PageTransitionRefreshTimeoutException extends TimeoutException { //NOSONAR
 
@@ -0,0 +1,24 @@
+package com.nordstrom.automation.selenium.interfaces;
+
+import org.openqa.grid.common.GridRole;
+
+import com.nordstrom.automation.selenium.core.GridMonitor;
+
+/**
+ * Classes that track the liveness of the Selenium Grid implement this interface. To receive liveness transitions,
+ * register an instance with {@link GridMonitor#addListener(GridStateListener)}.
+ * <p>
+ * <b>NOTE</b>: Transitions are reported on the thread that detected them (typically the background monitor thread),
+ * so implementations must be thread-safe and should return promptly.
+ */
+public interface GridStateListener {
+    
+    /**
+     * Receive a liveness transition of a Selenium Grid server.
+     * 
+     * @param role server role (either HUB or NODE)
+     * @param active 'true' if the server became active; 'false' if it became inactive
+     */
+    void gridStateChanged(GridRole role, boolean active);
+
+}
@@ -0,0 +1,25 @@
+package com.nordstrom.automation.selenium.interfaces;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+
+/**
+ * Classes that receive WebDriver command metrics implement this interface. To activate a metrics sink, specify its
+ * fully-qualified class name in the {@link SeleniumSettings#METRICS_SINK METRICS_SINK} setting. The specified class
+ * must declare a public no-argument constructor.
+ * <p>
+ * <b>NOTE</b>: Commands are reported on the threads that issued them, so implementations must be thread-safe
+ * and should return promptly.
+ */
+public interface MetricsSink {
+    
+    /**
+     * Receive the metrics of an executed command.
+     * 
+     * @param sessionId driver session ID (may be 'null')
+     * @param command command name (e.g. - findElement)
+     * @param caller calling page-model method (e.g. - ExamplePage.getParagraphs)
+     * @param elapsedNanos command latency in nanoseconds
+     */
+    void commandExecuted(String sessionId, String command, String caller, long elapsedNanos);
+
+}
@@ -1,11 +1,15 @@
 package com.nordstrom.automation.selenium.junit;
 
+import java.util.Optional;
+
 import org.junit.rules.TestWatcher;
 import org.junit.runner.Description;
 import org.junit.runners.model.FrameworkMethod;
+import org.slf4j.LoggerFactory;
 
 import com.nordstrom.automation.junit.MethodWatcher;
 import com.nordstrom.automation.selenium.annotations.PageUrl;
+import com.nordstrom.automation.selenium.core.CommandMetrics;
 import com.nordstrom.automation.selenium.core.DriverManager;
 import com.nordstrom.automation.selenium.core.GridUtility;
 import com.nordstrom.automation.selenium.core.TestBase;
@@ -17,6 +21,7 @@ import com.nordstrom.automation.selenium.core.TestBase;
  *     <li>For local execution, manage a local instance of Selenium Grid.</li>
  *     <li>Store and dispense the driver instance created for the test.</li>
  *     <li>Manage configured driver timeout intervals.</li>
+ *     <li>Log a summary of the driver command metrics of each test.</li>
  *     <li>If an initial page class is specified:
  *         <ul>
  *             <li>Open the initial page based on its {@link PageUrl} annotation.</li>
@@ -42,6 +47,15 @@ public class DriverWatcher implements MethodWatcher {
      */
     @Override
     public void afterInvocation(final Object obj, final FrameworkMethod method, final Throwable thrown) {
+        Optional<CommandMetrics.Summary> summary = DriverManager.drainMetrics(obj, method.getMethod());
+        if (summary.isPresent()) {
+            LoggerFactory.getLogger(obj.getClass()).info("{}: {}", method.getName(), summary.get());
+        }
+        Optional<Long> sessionWait = DriverManager.drainSessionWait(obj, method.getMethod());
+        if (sessionWait.isPresent()) {
+            LoggerFactory.getLogger(obj.getClass()).info("{}: driver session wait: {}ms",
+                            method.getName(), sessionWait.get());
+        }
         DriverManager.afterInvocation(obj, method.getMethod());
     }
     
@@ -1,6 +1,7 @@
 package com.nordstrom.automation.selenium.listeners;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
@@ -8,8 +9,10 @@ import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.testng.Reporter;
+import org.testng.xml.XmlTest;
 
 import com.nordstrom.automation.selenium.annotations.PageUrl;
+import com.nordstrom.automation.selenium.core.CommandMetrics;
 import com.nordstrom.automation.selenium.core.DriverManager;
 import com.nordstrom.automation.selenium.core.GridUtility;
 
@@ -31,6 +34,11 @@ import com.nordstrom.automation.selenium.core.GridUtility;
  * @see GridUtility
  */
 public class DriverListener implements IInvokedMethodListener, ITestListener {
+    
+    /** name of the test result attribute that holds the {@link CommandMetrics.Summary command metrics summary} */
+    public static final String METRICS_ATTRIBUTE = "commandMetrics";
+    /** name of the test result attribute that holds the driver session wait interval in milliseconds */
+    public static final String SESSION_WAIT_ATTRIBUTE = "sessionWait";
 
     /**
      * Perform pre-invocation processing:
@@ -58,6 +66,8 @@ public class DriverListener implements IInvokedMethodListener, ITestListener {
     /**
      * Perform post-invocation processing:
      * <ul>
+     *     <li>If the invoked method is a test, attach a summary of its driver command metrics to the test result.</li>
+     *     <li>If the invoked method is a test, attach the interval spent waiting for its driver session.</li>
      *     <li>If indicated, close the driver that was acquired for this method.</li>
      * </ul>
      * 
@@ -72,12 +82,26 @@ public class DriverListener implements IInvokedMethodListener, ITestListener {
         Object obj = testResult.getInstance();
         Method method = invokedMethod.getTestMethod().getConstructorOrMethod().getMethod();
         
+        Optional<CommandMetrics.Summary> summary = DriverManager.drainMetrics(obj, method);
+        if (summary.isPresent()) {
+            testResult.setAttribute(METRICS_ATTRIBUTE, summary.get());
+            Reporter.log(summary.get().toString());
+        }
+        
+        Optional<Long> sessionWait = DriverManager.drainSessionWait(obj, method);
+        if (sessionWait.isPresent()) {
+            testResult.setAttribute(SESSION_WAIT_ATTRIBUTE, sessionWait.get());
+            Reporter.log("Driver session wait: " + sessionWait.get() + "ms");
+        }
+        
         DriverManager.afterInvocation(obj, method);
     }
     
     /**
      * Perform post-suite processing:
      * <ul>
+     *     <li>Wait for pending driver teardowns to complete.</li>
+     *     <li>Attach a summary of the driver command metrics of those teardowns to the test context.</li>
      *     <li>If a Selenium Grid node process was spawned, shut it down.</li>
      *     <li>If a Selenium Grid hub process was spawned, shut it down.</li>
      * </ul>
@@ -86,15 +110,26 @@ public class DriverListener implements IInvokedMethodListener, ITestListener {
      */
     @Override
     public void onFinish(final ITestContext testContext) {
-        DriverManager.onFinish();
+        CommandMetrics.Summary teardownMetrics = DriverManager.onFinish();
+        if (teardownMetrics.getCount() > 0) {
+            testContext.setAttribute(METRICS_ATTRIBUTE, teardownMetrics);
+        }
     }
     
     /**
-     * {@inheritDoc}
+     * Perform pre-run processing: If the test context runs methods in parallel, report its thread count to
+     * {@link GridUtility#setParallelism(int) size} the local Grid.
+     * 
+     * @param testContext execution context for the test suite that's about to start
      */
     @Override
     public void onStart(final ITestContext testContext) {
-        // no pre-run processing
+        XmlTest xmlTest = testContext.getCurrentXmlTest();
+        // parallel mode is a string in older TestNG versions and an enumeration in newer ones
+        String parallel = String.valueOf(xmlTest.getParallel());
+        if (!"none".equals(parallel) && !"false".equals(parallel) && !"null".equals(parallel)) {
+            GridUtility.setParallelism(xmlTest.getThreadCount());
+        }
     }
 
     /**
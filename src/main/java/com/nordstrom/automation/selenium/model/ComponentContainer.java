@@ -1,13 +1,10 @@
 package com.nordstrom.automation.selenium.model;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +29,9 @@ import com.google.common.base.Function;
 import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
 import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
 import com.nordstrom.automation.selenium.SeleniumConfig;
+import com.nordstrom.automation.selenium.annotations.BatchedAcquisition;
+import com.nordstrom.automation.selenium.annotations.BypassInterception;
+import com.nordstrom.automation.selenium.annotations.ContainerKey;
 import com.nordstrom.automation.selenium.annotations.PageUrl;
 import com.nordstrom.automation.selenium.core.WebDriverUtils;
 import com.nordstrom.automation.selenium.exceptions.LandingPageMismatchException;
@@ -39,12 +39,15 @@ import com.nordstrom.automation.selenium.interfaces.WrapsContext;
 import com.nordstrom.automation.selenium.model.Page.WindowState;
 import com.nordstrom.automation.selenium.support.Coordinator;
 import com.nordstrom.automation.selenium.support.SearchContextWait;
-import com.nordstrom.common.base.UncheckedThrow;
 
 /**
  * This is a abstract base class for all of the container classes defined by <b>Selenium Foundation</b>.
  */
 @SuppressWarnings({"squid:S1200", "squid:S1774"})
+@BypassInterception(classes = {Object.class, WrapsContext.class}, methods = {"validateParent", "getDriver",
+        "getContext", "getParent", "getParentPage", "getWait", "switchTo", "switchToContext", "getVacater",
+        "setVacater", "isVacated", "enhanceContainer", "bypassClassOf", "bypassMethod", "getLogger", "hashCode",
+        "equals", "getArgumentTypes", "getArguments"})
 public abstract class ComponentContainer
                         extends Enhanceable<ComponentContainer> 
                         implements SearchContext, WrapsContext {
@@ -67,16 +70,9 @@ public abstract class ComponentContainer
     protected ComponentContainer parent;
     protected Method vacater;
     protected SearchContextWait wait;
-    private List<Class<?>> bypassClasses;
-    private List<String> bypassMethods;
     
     public static final By SELF = By.xpath(".");
     private static final String PLACEHOLDER = "{}";
-    private static final Class<?>[] BYPASS_CLASSES = {Object.class, WrapsContext.class};
-    private static final String[] BYPASS_METHODS = {"validateParent", "getDriver", "getContext", "getParent",
-            "getParentPage", "getWait", "switchTo", "switchToContext", "getVacater", "setVacater", "isVacated",
-            "enhanceContainer", "bypassClassOf", "bypassMethod", "getLogger", "hashCode", "equals", "getArgumentTypes",
-            "getArguments"};
     
     private static final Class<?>[] ARG_TYPES = {SearchContext.class, ComponentContainer.class};
     private static final Class<?>[] COLLECTIBLE_ARGS = {RobustWebElement.class, ComponentContainer.class};
@@ -181,6 +177,9 @@ public abstract class ComponentContainer
      */
     public <T> T waitUntil(Function<SearchContext, T> condition) {
         try {
+            if (condition instanceof Coordinator) {
+                return getWait().until((Coordinator<T>) condition);
+            }
             return getWait().until(condition);
         } catch (TimeoutException e) {
             if (e.getClass().equals(TimeoutException.class) && (condition instanceof Coordinator)) {
@@ -465,48 +464,6 @@ public abstract class ComponentContainer
         return new Object[] {context, parent};
     }
     
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected List<Class<?>> getBypassClasses() {
-        if (bypassClasses == null) {
-            bypassClasses = super.getBypassClasses();
-            Collections.addAll(bypassClasses, myBypassClasses());
-        }
-        return Collections.unmodifiableList(bypassClasses);
-    }
-    
-    /**
-     * Returns an array of classes whose methods should not be intercepted
-     * 
-     * @return array of bypass classes
-     */
-    Class<?>[] myBypassClasses() {
-        return Arrays.copyOf(BYPASS_CLASSES, BYPASS_CLASSES.length);
-    }
-    
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected List<String> getBypassMethods() {
-        if (bypassMethods == null) {
-            bypassMethods = super.getBypassMethods();
-            Collections.addAll(bypassMethods, myBypassMethods());
-        }
-        return Collections.unmodifiableList(bypassMethods);
-    }
-    
-    /**
-     * Returns an array of names for methods that should not be intercepted
-     * 
-     * @return array of bypass method names
-     */
-    String[] myBypassMethods() {
-        return Arrays.copyOf(BYPASS_METHODS, BYPASS_METHODS.length);
-    }
-    
     /**
      * Get the logger for this container
      * 
@@ -879,6 +836,33 @@ public abstract class ComponentContainer
         }
     }
     
+    /**
+     * Find the context elements for a collection of containers of the specified type.
+     * <p>
+     * <b>NOTE</b>: If the specified container type is a {@link PageComponent} that declares the
+     * {@link BatchedAcquisition} annotation, the elements matching its declared child locators are acquired along
+     * with the collection context elements in a single script execution.
+     * 
+     * @param <T> component container type
+     * @param parent parent container
+     * @param containerType target container type
+     * @param locator collection context element locator
+     * @return list of collection context elements
+     */
+    static <T extends ComponentContainer> List<WebElement> findCollectible(final ComponentContainer parent,
+                    final Class<T> containerType, final By locator) {
+        
+        BatchedAcquisition batched = containerType.getAnnotation(BatchedAcquisition.class);
+        if ((batched != null) && PageComponent.class.isAssignableFrom(containerType)) {
+            List<By> children = new ArrayList<>();
+            for (ByEnum constant : batched.value().getEnumConstants()) {
+                children.add(constant.locator());
+            }
+            return RobustElementFactory.getElements(parent, locator, children);
+        }
+        return parent.findElements(locator);
+    }
+    
     /**
      * Get the types of the arguments used to instantiate collectible containers.
      * 
@@ -890,6 +874,8 @@ public abstract class ComponentContainer
     
     /**
      * Instantiate a new container of the specified type with the supplied arguments.
+     * <p>
+     * <b>NOTE</b>: Containers are created by cached {@link ContainerFactory constructor factories}.
      * 
      * @param <T> component container type
      * @param containerType type of container to instantiate
@@ -899,15 +885,7 @@ public abstract class ComponentContainer
      */
     static <T extends ComponentContainer> T newContainer(
                     final Class<T> containerType, final Class<?>[] argumentTypes, final Object[] arguments) {
-        try {
-            Constructor<T> ctor = containerType.getConstructor(argumentTypes);
-            return ctor.newInstance(arguments);
-        } catch (InvocationTargetException e) { //NOSONAR
-            throw UncheckedThrow.throwUnchecked(e.getCause());
-        } catch (SecurityException | IllegalAccessException | IllegalArgumentException |
-                NoSuchMethodException | InstantiationException e) {
-            throw UncheckedThrow.throwUnchecked(e);
-        }
+        return ContainerFactory.newInstance(containerType, argumentTypes, arguments);
     }
     
     /**
@@ -930,7 +908,7 @@ public abstract class ComponentContainer
      * <b>NOTE</b>: The specified page component class must declare a constructor with arguments
      * (RobustWebElement, ComponentContainer).<br>
      * <b>NOTE</b>: The specified page component class must declare a static {@code getKey} method that generates a
-     * unique key for each map entry.
+     * unique key for each map entry, or specify the key of each entry via the {@link ContainerKey} annotation.
      * 
      * @param <T> page component type
      * @param componentType page component type
@@ -963,7 +941,7 @@ public abstract class ComponentContainer
      * <b>NOTE</b>: The specified frame class must declare a constructor with arguments
      * (RobustWebElement, ComponentContainer).<br>
      * <b>NOTE</b>: The specified frame class must declare a static {@code getKey} method that generates a
-     * unique key for each map entry.
+     * unique key for each map entry, or specify the key of each entry via the {@link ContainerKey} annotation.
      * 
      * @param <T> frame type
      * @param frameType frame type
@@ -985,8 +963,6 @@ public abstract class ComponentContainer
         int result = 1;
         result = prime * result + context.hashCode();
         result = prime * result + ((parent == null) ? 0 : parent.hashCode());
-        result = prime * result + ((bypassClasses == null) ? 0 : bypassClasses.hashCode());
-        result = prime * result + ((bypassMethods == null) ? 0 : bypassMethods.hashCode());
         return result;
     }
     
@@ -1010,16 +986,6 @@ public abstract class ComponentContainer
                 return false;
         } else if (!parent.equals(other.parent))
             return false;
-        if (bypassClasses == null) {
-            if (other.bypassClasses != null)
-                return false;
-        } else if (!bypassClasses.equals(other.bypassClasses))
-            return false;
-        if (bypassMethods == null) {
-            if (other.bypassMethods != null)
-                return false;
-        } else if (!bypassMethods.equals(other.bypassMethods))
-            return false;
         return true;
     }
 }
@@ -0,0 +1,131 @@
+package com.nordstrom.automation.selenium.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.nordstrom.common.base.UncheckedThrow;
+
+/**
+ * This utility class instantiates component containers through cached constructor factories. For each combination of
+ * class and constructor signature, a {@link MethodHandle} for the constructor is created once and shared across
+ * threads, avoiding reflective constructor lookup and invocation for every new container.
+ * <p>
+ * <b>NOTE</b>: Each class remembers its most recently used factory, so the common case (a single constructor
+ * signature per class) is resolved with an array comparison and no allocation.
+ */
+final class ContainerFactory {
+    
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+    
+    private static final ClassValue<Factories> FACTORIES = new ClassValue<Factories>() {
+        @Override
+        protected Factories computeValue(final Class<?> type) {
+            return new Factories(type);
+        }
+    };
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ContainerFactory() {
+        throw new AssertionError("ContainerFactory is a static utility class that cannot be instantiated");
+    }
+    
+    /**
+     * Instantiate a new object of the specified type with the supplied arguments.
+     * 
+     * @param <T> object type
+     * @param type type of object to instantiate
+     * @param argumentTypes array of constructor argument types
+     * @param arguments array of constructor argument values
+     * @return new object of the specified type
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T newInstance(final Class<T> type, final Class<?>[] argumentTypes, final Object[] arguments) {
+        MethodHandle factory = FACTORIES.get(type).get(argumentTypes);
+        try {
+            return (T) (Object) factory.invokeExact(arguments);
+        } catch (Throwable t) { //NOSONAR
+            throw UncheckedThrow.throwUnchecked(t);
+        }
+    }
+    
+    /**
+     * This class holds the constructor factories of a single class.
+     */
+    private static final class Factories {
+        
+        private final Class<?> type;
+        private final Map<List<Class<?>>, MethodHandle> factories = new ConcurrentHashMap<>();
+        private volatile Entry recent;
+        
+        /**
+         * Constructor for the factories of the specified class.
+         * 
+         * @param type class whose instances are created
+         */
+        Factories(final Class<?> type) {
+            this.type = type;
+        }
+        
+        /**
+         * Get the factory for the constructor with the specified signature.
+         * 
+         * @param argumentTypes array of constructor argument types
+         * @return constructor factory of type {@code (Object[])Object}
+         */
+        MethodHandle get(final Class<?>[] argumentTypes) {
+            Entry entry = recent;
+            if ((entry != null) && Arrays.equals(entry.argumentTypes, argumentTypes)) {
+                return entry.factory;
+            }
+            
+            List<Class<?>> signature = Arrays.asList(argumentTypes.clone());
+            MethodHandle factory = factories.computeIfAbsent(signature, this::newFactory);
+            recent = new Entry(signature.toArray(new Class<?>[signature.size()]), factory);
+            return factory;
+        }
+        
+        /**
+         * Create the factory for the constructor with the specified signature.
+         * 
+         * @param signature constructor argument types
+         * @return constructor factory of type {@code (Object[])Object}
+         */
+        private MethodHandle newFactory(final List<Class<?>> signature) {
+            try {
+                MethodHandle ctor = LOOKUP.unreflectConstructor(
+                                type.getConstructor(signature.toArray(new Class<?>[signature.size()])));
+                return ctor.asSpreader(Object[].class, signature.size()).asType(FACTORY_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw UncheckedThrow.throwUnchecked(e);
+            }
+        }
+    }
+    
+    /**
+     * This class associates a constructor signature with its factory.
+     */
+    private static final class Entry {
+        
+        private final Class<?>[] argumentTypes;
+        private final MethodHandle factory;
+        
+        /**
+         * Constructor for factory entry.
+         * 
+         * @param argumentTypes array of constructor argument types
+         * @param factory constructor factory
+         */
+        Entry(final Class<?>[] argumentTypes, final MethodHandle factory) {
+            this.argumentTypes = argumentTypes;
+            this.factory = factory;
+        }
+    }
+}
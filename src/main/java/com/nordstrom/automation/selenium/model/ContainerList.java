@@ -43,7 +43,7 @@ abstract class ContainerList<E extends ComponentContainer> extends AbstractList<
         this.containerType = containerType;
         this.locator = locator;
         
-        elements = parent.findElements(locator);
+        elements = ComponentContainer.findCollectible(parent, containerType, locator);
         containers = new ArrayList<>(elements.size());
         for (int i = 0; i < elements.size(); i++) {
             containers.add(null);
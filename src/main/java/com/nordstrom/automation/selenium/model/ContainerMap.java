@@ -4,8 +4,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -14,9 +17,14 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import com.nordstrom.automation.selenium.annotations.ContainerKey;
+import com.nordstrom.automation.selenium.core.JsUtility;
 import com.nordstrom.common.base.UncheckedThrow;
 
 /**
@@ -29,6 +37,8 @@ import com.nordstrom.common.base.UncheckedThrow;
  */
 abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Object, V> {
 
+    private static final String EXTRACT_KEYS = JsUtility.getScriptResource("extractKeys.js");
+    
     protected ComponentContainer parent;
     protected Class<V> containerType;
     protected By locator;
@@ -36,6 +46,8 @@ abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Ob
     
     private List<WebElement> elements;
     private ContainerEntry<V>[] table;
+    private Map<Object, ContainerEntry<V>> index;
+    private Set<WebElement> contexts;
     private Set<Map.Entry<Object, V>> entrySet;
     private int size;
     
@@ -58,17 +70,102 @@ abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Ob
         this.containerType = containerType;
         this.locator = locator;
         
-        method = ComponentContainer.getKeyMethod(containerType);
+        ContainerKey containerKey = containerType.getAnnotation(ContainerKey.class);
+        if (containerKey == null) {
+            method = ComponentContainer.getKeyMethod(containerType);
+        }
         
-        elements = parent.findElements(locator);
+        elements = ComponentContainer.findCollectible(parent, containerType, locator);
         size = elements.size();
         table = new ContainerEntry[size];
         
+        List<Object> keys = (containerKey != null) ? extractKeys(containerKey) : invokeKeyMethod();
+        
         int i = size;
         ContainerEntry<V> next = null;
         while (i-- > 0) {
-            next = table[i] = new ContainerEntry<>(this, (RobustWebElement) elements.get(i), next);
+            next = table[i] = new ContainerEntry<>(this, (RobustWebElement) elements.get(i), keys.get(i), next);
+        }
+        
+        index = new HashMap<>(Math.max((int) (size / .75f) + 1, 16));
+        contexts = Collections.newSetFromMap(new IdentityHashMap<WebElement, Boolean>(size));
+        for (ContainerEntry<V> entry : table) {
+            // retain the first entry for duplicate keys
+            index.putIfAbsent(entry.key, entry);
+            contexts.add(entry.element);
+        }
+    }
+    
+    /**
+     * Get the keys of the map entries from the static {@code getKey(SearchContext)} method of the container type.
+     * 
+     * @return list of entry keys
+     */
+    private List<Object> invokeKeyMethod() {
+        List<Object> keys = new ArrayList<>(size);
+        for (WebElement element : elements) {
+            try {
+                keys.add(method.invoke(null, element));
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                throw UncheckedThrow.throwUnchecked(e);
+            }
+        }
+        return keys;
+    }
+    
+    /**
+     * Get the keys of the map entries as specified by the {@link ContainerKey} annotation of the container type.
+     * <p>
+     * <b>NOTE</b>: The keys of all entries are extracted by a single script execution. If the driver can't execute
+     * JavaScript or a context element has gone stale, the keys are extracted element-by-element instead.
+     * 
+     * @param containerKey container key annotation
+     * @return list of entry keys
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> extractKeys(final ContainerKey containerKey) {
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+        
+        WebDriver driver = parent.getWrappedDriver();
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                return JsUtility.runAndReturn(driver, EXTRACT_KEYS,
+                                elements, containerKey.selector(), containerKey.attribute());
+            } catch (StaleElementReferenceException e) { //NOSONAR
+                // fall through to element-by-element extraction below
+            }
+        }
+        
+        List<Object> keys = new ArrayList<>(size);
+        for (WebElement element : elements) {
+            keys.add(extractKey(element, containerKey));
         }
+        return keys;
+    }
+    
+    /**
+     * Get the key of the map entry for the specified context element as specified by the {@link ContainerKey}
+     * annotation of the container type.
+     * 
+     * @param element container map context element
+     * @param containerKey container key annotation
+     * @return entry key; 'null' if the specified sub-element doesn't exist
+     */
+    private static Object extractKey(final WebElement element, final ContainerKey containerKey) {
+        WebElement target = element;
+        if (!containerKey.selector().isEmpty()) {
+            List<WebElement> found = element.findElements(By.cssSelector(containerKey.selector()));
+            if (found.isEmpty()) {
+                return null;
+            }
+            target = found.get(0);
+        }
+        if (containerKey.attribute().isEmpty()) {
+            return target.getText().trim();
+        }
+        return target.getAttribute(containerKey.attribute());
     }
     
     /**
@@ -77,14 +174,32 @@ abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Ob
     @Override
     @SuppressWarnings("unchecked")
     public boolean containsValue(final Object value) {
-        if (value.getClass() == containerType) {
+        if ((value != null) && (Enhanceable.getContainerClass(value) == containerType)) {
             V container = (V) value;
             SearchContext context = container.getContext();
-            return elements.contains(context);
+            // containers produced by this map are matched by identity; others require an equality scan
+            return contexts.contains(context) || elements.contains(context);
         }
         return false;
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        return index.containsKey(key);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(final Object key) {
+        ContainerEntry<V> e = getEntry(key);
+        return (e == null) ? null : e.getValue();
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -103,16 +218,7 @@ abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Ob
      * @return entry for the specified key; 'null' if not found
      */
     final ContainerEntry<V> getEntry(final Object key) {
-        if (table.length == 0) {
-            return null;
-        }
-        ContainerEntry<V> e;
-        for (e = table[0]; e != null; e = e.next) {
-            if (e.key == key || (key != null && key.equals(e.key))) {
-                break;
-            }
-        }
-        return e;
+        return index.get(key);
     }
     
     /**
@@ -194,18 +300,15 @@ abstract class ContainerMap<V extends ComponentContainer> extends AbstractMap<Ob
          * 
          * @param map container map to which this entry belongs
          * @param element container context element
+         * @param key key of this entry
          * @param next link to the next container entry ('null' for final entry)
          */
-        ContainerEntry(final ContainerMap<V> map, final RobustWebElement element, final ContainerEntry<V> next) {
+        ContainerEntry(final ContainerMap<V> map, final RobustWebElement element, final Object key,
+                        final ContainerEntry<V> next) {
             this.map = map;
             this.element = element;
+            this.key = key;
             this.next = next;
-            
-            try {
-                key = map.method.invoke(null, element);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                throw UncheckedThrow.throwUnchecked(e);
-            }
         }
         
         /**
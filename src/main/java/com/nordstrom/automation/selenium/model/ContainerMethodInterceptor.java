@@ -1,15 +1,24 @@
 package com.nordstrom.automation.selenium.model;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
 
 import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
+import com.nordstrom.automation.selenium.core.CommandMetrics;
+import com.nordstrom.automation.selenium.core.JsUtility;
 import com.nordstrom.automation.selenium.exceptions.ContainerVacatedException;
 import com.nordstrom.automation.selenium.exceptions.PageLoadRendererTimeoutException;
 import com.nordstrom.automation.selenium.interfaces.DetectsLoadCompletion;
@@ -17,7 +26,6 @@ import com.nordstrom.automation.selenium.model.Page.WindowState;
 import com.nordstrom.automation.selenium.support.Coordinators;
 import com.nordstrom.common.base.ExceptionUnwrapper;
 
-import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.SuperCall;
@@ -38,55 +46,72 @@ import net.bytebuddy.implementation.bind.annotation.This;
  *     <li>If the invoked method returns a new container object: <ul>
  *         <li>If the new object is a page: <ul>
  *             <li>If the page object is associated with a new window, wait for the window to appear...</li>
- *             <li>... otherwise, mark the target object as vacated to block further method calls.</li>
+ *             <li>... otherwise, mark the target object as vacated to block further method calls, and advance the
+ *             {@link DomEpoch DOM epoch} of the window to invalidate element references acquired from the prior
+ *             page.</li>
  *         </ul></li>
  *         <li>Wait for browser to rebuild its DOM.</li>
  *         <li>Create an "enhanced" version of the new container object, which installs the interceptor.</li>
  *         <li>If the new object is a page, verify that the browser has landed on the expected URL.</li>
  *     </ul></li>
+ *     <li>Attribute the driver commands issued by the invoked method to it in the {@link CommandMetrics}.</li>
  *     <li>Return the result of the invoked method.</li>
  * </ul>
  */
 public enum ContainerMethodInterceptor {
     INSTANCE;
     
-    private static final ThreadLocal<Integer> DEPTH = new InheritableThreadLocal<Integer>() {
+    private static final ThreadLocal<int[]> DEPTH = new InheritableThreadLocal<int[]>() {
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
         
         /**
          * {@inheritDoc}
          */
         @Override
-        protected Integer initialValue() {
-            return Integer.valueOf(0);
+        protected int[] childValue(final int[] parentValue) {
+            return new int[] {parentValue[0]};
         }
     };
     
+    /** descriptors of intercepted methods */
+    private static final Map<Method, MethodInfo> METHOD_INFO = new ConcurrentHashMap<>();
+    
     private static final ThreadLocal<ComponentContainer> TARGET = new InheritableThreadLocal<>();
     
     private static final String RENDERER_TIMEOUT_MESSAGE = "receiving message from renderer";
+    private static final String PLANT_PAGE_TOKEN = JsUtility.getScriptResource("plantPageToken.js");
 
     /**
      * This is the method that intercepts component container methods in "enhanced" model objects.
      * 
      * @param obj "enhanced" object upon which the method was invoked
      * @param method {@link Method} object for the invoked method
-     * @param args method invocation arguments
      * @param proxy call-able proxy for the intercepted method
      * @return {@code anything} (the result of invoking the intercepted method)
      * @throws Exception {@code anything} (exception thrown by the intercepted method)
      */
     @RuntimeType
     @SuppressWarnings({"squid:S3776", "squid:MethodCyclomaticComplexity", "squid:S1698", "squid:S134"})
-    public Object intercept(@This final Object obj, @Origin final Method method, @AllArguments final Object[] args,
+    public Object intercept(@This final Object obj, @Origin final Method method,
                     @SuperCall final Callable<?> proxy) throws Throwable {
         
         if (!(obj instanceof ComponentContainer)) {
             return proxy.call();
         }
         
-        increaseDepth();
+        MethodInfo info = getMethodInfo(method);
+        int[] depth = DEPTH.get();
+        depth[0]++;
         long initialTime = System.currentTimeMillis();
         ComponentContainer container = (ComponentContainer) obj;
+        String caller = CommandMetrics.setCaller(info.callerName);
         
         try {
             if (container.isVacated()) {
@@ -100,17 +125,24 @@ public enum ContainerMethodInterceptor {
                 TARGET.set(container);
             }
             
+            String token = null;
             WebElement reference = null;
-            Class<?> returnType = method.getReturnType();
-            Page parentPage = container.getParentPage();
-            Set<String> initialHandles = driver.getWindowHandles();
+            Set<String> initialHandles = null;
             
-            boolean returnsContainer = ComponentContainer.class.isAssignableFrom(returnType);
-            boolean returnsPage = Page.class.isAssignableFrom(returnType) && !Frame.class.isAssignableFrom(returnType);
-            boolean detectsCompletion = returnsContainer && DetectsLoadCompletion.class.isAssignableFrom(returnType);
+            boolean returnsContainer = info.returnsContainer;
+            boolean returnsPage = info.returnsPage;
+            boolean detectsCompletion = info.detectsCompletion;
+            
+            // only methods that return pages can open windows
+            if (returnsPage) {
+                initialHandles = driver.getWindowHandles();
+            }
             
             if (returnsPage && !detectsCompletion) {
-                reference = driver.findElement(By.cssSelector("*"));
+                token = plantPageToken(driver);
+                if (token == null) {
+                    reference = driver.findElement(By.cssSelector("*"));
+                }
             }
             
             Object result = proxy.call();
@@ -120,8 +152,10 @@ public enum ContainerMethodInterceptor {
                 return result;
             }
             
+            Page parentPage = container.getParentPage();
             if (parentPage.getWindowState() == WindowState.WILL_CLOSE) {
                 WaitType.WAIT.getWait(driver).until(Coordinators.windowIsClosed(parentPage.getWindowHandle()));
+                DomEpoch.forget(driver, parentPage.getWindowHandle());
                 parentPage = parentPage.getSpawningPage();
                 if (parentPage != null) {
                     parentPage.switchTo();
@@ -132,6 +166,7 @@ public enum ContainerMethodInterceptor {
                     TARGET.set(null);
                 }
                 container.setVacater(method);
+                token = null;
                 reference = null;
             }
             
@@ -146,10 +181,12 @@ public enum ContainerMethodInterceptor {
                     if (newPage.getWindowState() == WindowState.WILL_OPEN) {
                         newHandle = WaitType.WAIT.getWait(driver).until(Coordinators.newWindowIsOpened(initialHandles));
                         newPage.setSpawningPage(parentPage);
+                        token = null;
                         reference = null;
                     } else {
                         newHandle = driver.getWindowHandle();
                         container.setVacater(method);
+                        DomEpoch.advance(driver, newHandle);
                     }
                 }
                 
@@ -162,6 +199,8 @@ public enum ContainerMethodInterceptor {
                 if (detectsCompletion) {
                     ((ComponentContainer) result).getWait(WaitType.PAGE_LOAD)
                             .until(DetectsLoadCompletion.pageLoadIsComplete());
+                } else if (token != null) {
+                    WaitType.PAGE_LOAD.getWait(driver).until(Coordinators.pageIsReplaced(token));
                 } else if (reference != null) {
                     WaitType.PAGE_LOAD.getWait(driver).until(Coordinators.stalenessOf(reference));
                 }
@@ -175,45 +214,64 @@ public enum ContainerMethodInterceptor {
             }
             throw thrown;
         } finally {
-            int level = decreaseDepth();
-            long interval = System.currentTimeMillis() - initialTime;
+            CommandMetrics.setCaller(caller);
+            int level = --depth[0];
+            Logger logger = container.getLogger();
             
+            // timing arguments are boxed only if their log level is enabled
             if (level == 0) {
-                container.getLogger().info("[{}] {} ({}ms)", level, method.getName(), interval);
-            } else {
-                container.getLogger().debug("[{}] {} ({}ms)", level, method.getName(), interval);
+                if (logger.isInfoEnabled()) {
+                    logger.info("[{}] {} ({}ms)", level, info.name, System.currentTimeMillis() - initialTime);
+                }
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("[{}] {} ({}ms)", level, info.name, System.currentTimeMillis() - initialTime);
             }
         }
     }
     
     /**
-     * Increment intercept depth counter
+     * Get the descriptor of the specified intercepted method.
      * 
-     * @return updated depth count
+     * @param method intercepted method
+     * @return {@link MethodInfo} for the specified method
      */
-    private static int increaseDepth() {
-        return adjustDepth(1);
+    private static MethodInfo getMethodInfo(final Method method) {
+        MethodInfo info = METHOD_INFO.get(method);
+        if (info == null) {
+            info = METHOD_INFO.computeIfAbsent(method, MethodInfo::new);
+        }
+        return info;
     }
     
     /**
-     * Decrement intercept depth counter
+     * Plant a unique token in the current page of the specified driver, enabling cheap detection of page transitions.
      * 
-     * @return updated depth count
+     * @param driver driver object
+     * @return page token; 'null' if the driver is unable to execute JavaScript
+     * @see Coordinators#pageIsReplaced(String)
      */
-    private static int decreaseDepth() {
-        return adjustDepth(-1);
+    private static String plantPageToken(final WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            String token = UUID.randomUUID().toString();
+            try {
+                JsUtility.run(driver, PLANT_PAGE_TOKEN, token);
+                return token;
+            } catch (WebDriverException e) { //NOSONAR
+                // fall through to 'return' statement below
+            }
+        }
+        return null;
     }
     
     /**
-     * Apply the specified delta to intercept depth counter
+     * Stop tracking the {@link DomEpoch DOM epochs} of all windows of the specified driver, advancing them first. This
+     * should be called when windows of the driver are replaced outside of page-model methods (e.g. - when a pooled
+     * session is reset).
      * 
-     * @param delta depth counter delta
-     * @return updated depth count
+     * @param driver driver object
      */
-    private static int adjustDepth(final int delta) {
-        int i = DEPTH.get().intValue() + delta;
-        DEPTH.set(Integer.valueOf(i));
-        return i;
+    public static void forgetWindows(final WebDriver driver) {
+        DomEpoch.forget(driver);
     }
     
     /**
@@ -232,4 +290,64 @@ public enum ContainerMethodInterceptor {
         return e;
     }
     
+    /**
+     * This class describes an intercepted method: the classification of its return type and its name for logging and
+     * {@link CommandMetrics} attribution. Descriptors are computed once per method, so calls that return neither a
+     * container nor a page allocate nothing in the interceptor while their timing log level is disabled.
+     * <p>
+     * <b>NOTE</b>: Timing of top-level calls is logged at INFO level, and nested calls at DEBUG level. Logging an
+     * enabled level boxes the timing arguments, so the interceptor path is only allocation-free with INFO off.
+     */
+    private static final class MethodInfo {
+        
+        private final String name;
+        private final String callerName;
+        private final boolean returnsContainer;
+        private final boolean returnsPage;
+        private final boolean detectsCompletion;
+        
+        /**
+         * Constructor for intercepted method descriptor.
+         * 
+         * @param method intercepted method
+         */
+        MethodInfo(final Method method) {
+            Class<?> returnType = method.getReturnType();
+            name = method.getName();
+            callerName = method.getDeclaringClass().getSimpleName() + "." + name;
+            returnsContainer = ComponentContainer.class.isAssignableFrom(returnType);
+            returnsPage = Page.class.isAssignableFrom(returnType) && !Frame.class.isAssignableFrom(returnType);
+            detectsCompletion = returnsContainer && DetectsLoadCompletion.class.isAssignableFrom(returnType);
+        }
+    }
+    
+    /**
+     * This class is the delegation target of "enhanced" container classes. It forwards intercepted calls to the
+     * {@link ContainerMethodInterceptor#INSTANCE interceptor} through a static method, which enables enhanced
+     * classes generated at build time to be loaded without runtime initialization.
+     */
+    public static final class Dispatcher {
+        
+        /**
+         * Private constructor to prevent instantiation.
+         */
+        private Dispatcher() {
+            throw new AssertionError("Dispatcher is a static utility class that cannot be instantiated");
+        }
+        
+        /**
+         * Forward the intercepted call to the container method interceptor.
+         * 
+         * @param obj "enhanced" object upon which the method was invoked
+         * @param method {@link Method} object for the invoked method
+         * @param proxy call-able proxy for the intercepted method
+         * @return {@code anything} (the result of invoking the intercepted method)
+         * @throws Exception {@code anything} (exception thrown by the intercepted method)
+         */
+        @RuntimeType
+        public static Object intercept(@This final Object obj, @Origin final Method method,
+                        @SuperCall final Callable<?> proxy) throws Throwable {
+            return INSTANCE.intercept(obj, method, proxy);
+        }
+    }
 }
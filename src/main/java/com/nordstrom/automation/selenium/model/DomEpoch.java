@@ -0,0 +1,186 @@
+package com.nordstrom.automation.selenium.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.nordstrom.automation.selenium.core.JsUtility;
+
+/**
+ * This class tracks the DOM epoch of a browser window. The epoch is advanced whenever the document in the window is
+ * known to have been replaced, which invalidates every element reference acquired in prior epochs. Robust elements
+ * record the epoch in which their references were acquired, re-acquiring them on next use once the epoch advances
+ * instead of waiting for a {@link org.openqa.selenium.StaleElementReferenceException StaleElementReferenceException}.
+ * <ul>
+ *     <li>{@link ContainerMethodInterceptor} advances the epoch of a window when a page-model method navigates it to
+ *     a new page, forgets the epoch of a window when it's closed, and forgets every epoch of a driver when its
+ *     pooled session is reset.</li>
+ *     <li>When a robust element encounters a stale reference, {@link #detectReplacement(WebDriver)} checks for a
+ *     token planted in the window's top-level document on the previous check. If the token is gone, the document was
+ *     replaced by navigation outside of page-model methods, and the epoch is advanced.</li>
+ * </ul>
+ * <b>NOTE</b>: Elements whose window can't be determined are tracked by an epoch shared by all windows of the
+ * driver, which is advanced along with the epoch of every window.
+ */
+final class DomEpoch {
+    
+    private static final Map<WebDriver, Windows> EPOCHS =
+                    Collections.synchronizedMap(new WeakHashMap<WebDriver, Windows>());
+    
+    private static final String SWAP_DOCUMENT_TOKEN = JsUtility.getScriptResource("swapDocumentToken.js");
+    
+    private final DomEpoch shared;
+    private final AtomicLong value = new AtomicLong();
+    private volatile String token;
+    
+    /**
+     * Constructor for DOM epoch.
+     * 
+     * @param shared epoch shared by all windows of the driver; 'null' for the shared epoch itself
+     */
+    private DomEpoch(final DomEpoch shared) {
+        this.shared = shared;
+    }
+    
+    /**
+     * Get the DOM epoch of the specified window.
+     * 
+     * @param driver driver object
+     * @param windowHandle window handle; 'null' for the epoch shared by all windows of the driver
+     * @return {@link DomEpoch} object
+     */
+    static DomEpoch forWindow(final WebDriver driver, final String windowHandle) {
+        Windows windows = getWindows(driver);
+        if (windowHandle == null) {
+            return windows.shared;
+        }
+        return windows.epochs.computeIfAbsent(windowHandle, handle -> new DomEpoch(windows.shared));
+    }
+    
+    /**
+     * Advance the DOM epoch of the specified window.
+     * 
+     * @param driver driver object
+     * @param windowHandle window handle; 'null' to advance the epochs of all windows of the driver
+     */
+    static void advance(final WebDriver driver, final String windowHandle) {
+        if (windowHandle == null) {
+            Windows windows = getWindows(driver);
+            windows.epochs.values().forEach(DomEpoch::advance);
+            windows.shared.advance();
+        } else {
+            forWindow(driver, windowHandle).advance();
+        }
+    }
+    
+    /**
+     * Stop tracking the DOM epoch of the specified closed window. The epoch is advanced first, so elements that
+     * recorded it re-acquire their references on next use.
+     * 
+     * @param driver driver object
+     * @param windowHandle handle of closed window
+     */
+    static void forget(final WebDriver driver, final String windowHandle) {
+        Windows windows = EPOCHS.get(driver);
+        if (windows != null) {
+            DomEpoch epoch = windows.epochs.remove(windowHandle);
+            if (epoch != null) {
+                epoch.advance();
+            }
+        }
+    }
+    
+    /**
+     * Stop tracking the DOM epochs of all windows of the specified driver. The epochs are advanced first, so elements
+     * that recorded them re-acquire their references on next use.
+     * 
+     * @param driver driver object
+     */
+    static void forget(final WebDriver driver) {
+        Windows windows = EPOCHS.remove(driver);
+        if (windows != null) {
+            windows.epochs.values().forEach(DomEpoch::advance);
+            windows.shared.advance();
+        }
+    }
+    
+    /**
+     * Get the tracked windows of the specified driver.
+     * 
+     * @param driver driver object
+     * @return {@link Windows} object
+     */
+    private static Windows getWindows(final WebDriver driver) {
+        Objects.requireNonNull(driver, "[driver] must be non-null");
+        return EPOCHS.computeIfAbsent(driver, key -> new Windows());
+    }
+    
+    /**
+     * Get the current value of this epoch.
+     * 
+     * @return current epoch value
+     */
+    long current() {
+        return value.get();
+    }
+    
+    /**
+     * Advance this epoch (and the epoch shared by all windows of the driver).
+     */
+    void advance() {
+        token = null;
+        value.incrementAndGet();
+        if (shared != null) {
+            shared.advance();
+        }
+    }
+    
+    /**
+     * Determine if the top-level document in the current window of the specified driver was replaced since the last
+     * check, advancing this epoch if so. A new token is planted in the document for the next check.
+     * <p>
+     * <b>NOTE</b>: The token is held by the top-level document, so checks made while the driver is switched to a frame
+     * see the same token as checks made from the top. If the top-level document can't be reached (e.g. from a frame
+     * of another origin), no replacement is detected and the prior token is kept. The first check after this epoch
+     * advances only plants a token, as there's nothing to compare.
+     * 
+     * @param driver driver object
+     * @return 'true' if the document was replaced; otherwise 'false'
+     */
+    boolean detectReplacement(final WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        
+        String expect = token;
+        String planted = UUID.randomUUID().toString();
+        try {
+            String prior = JsUtility.runAndReturn(driver, SWAP_DOCUMENT_TOKEN, planted);
+            boolean replaced = (expect != null) && !expect.equals(prior);
+            if (replaced) {
+                advance();
+            }
+            token = planted;
+            return replaced;
+        } catch (WebDriverException e) { //NOSONAR
+            return false;
+        }
+    }
+    
+    /**
+     * This class holds the DOM epochs of the windows of a single driver.
+     */
+    private static final class Windows {
+        
+        private final DomEpoch shared = new DomEpoch(null);
+        private final Map<String, DomEpoch> epochs = new ConcurrentHashMap<>();
+    }
+}
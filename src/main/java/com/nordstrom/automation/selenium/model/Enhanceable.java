@@ -1,33 +1,37 @@
 package com.nordstrom.automation.selenium.model;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import com.nordstrom.common.base.UncheckedThrow;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.nordstrom.automation.selenium.annotations.BypassInterception;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.matcher.ElementMatcher;
-import net.bytebuddy.matcher.ElementMatchers;
 
+import static net.bytebuddy.matcher.ElementMatchers.anyOf;
 import static net.bytebuddy.matcher.ElementMatchers.hasMethodName;
-import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 
 /**
  * This is the foundation for all "enhanceable" objects
+ * <p>
+ * <b>NOTE</b>: The "enhanced" subclass of each container class is created the first time it's needed, unless it was
+ * generated at build time by {@link EnhancedContainerGenerator}. Enhanced classes are cached in a concurrent map, so
+ * threads that enhance different container classes don't block each other.
  * 
  * @param <T> "enhanceable" object base class
  */
+@BypassInterception(classes = Enhanceable.class)
 public abstract class Enhanceable<T> {
     
-    private static final List<Class<?>> BYPASS = Arrays.asList(Enhanceable.class);
-    private static final Map<Class<?>, Class<?>> proxyMap = new HashMap<>();
+    private static final Map<Class<?>, Class<?>> proxyMap = new ConcurrentHashMap<>();
     
     /**
      * Get the types of the arguments used to instantiate this object.
@@ -45,20 +49,64 @@ public abstract class Enhanceable<T> {
     
     /**
      * Get the list of classes whose declared methods should not be intercepted
+     * <p>
+     * <b>NOTE</b>: By default, this list is assembled from the {@link BypassInterception} declarations of this
+     * object's class. Container classes that override this method are enhanced at runtime, as their lists can't be
+     * determined at build time.
      * 
      * @return list of bypass classes
      */
     protected List<Class<?>> getBypassClasses() {
-        return new ArrayList<>(BYPASS);
+        return bypassClassesOf(getContainerClass(this));
     }
     
     /**
      * Get the list of named for methods that should not be intercepted
+     * <p>
+     * <b>NOTE</b>: By default, this list is assembled from the {@link BypassInterception} declarations of this
+     * object's class. Container classes that override this method are enhanced at runtime, as their lists can't be
+     * determined at build time.
      * 
      * @return list of bypass method names
      */
     protected List<String> getBypassMethods() {
-        return new ArrayList<>();
+        return bypassMethodsOf(getContainerClass(this));
+    }
+    
+    /**
+     * Get the bypass classes declared by the specified container class and its superclasses.
+     * 
+     * @param containerClass container class
+     * @return list of bypass classes
+     * @see BypassInterception#classes()
+     */
+    static List<Class<?>> bypassClassesOf(final Class<?> containerClass) {
+        List<Class<?>> bypassClasses = new ArrayList<>();
+        for (Class<?> clazz = containerClass; clazz != null; clazz = clazz.getSuperclass()) {
+            BypassInterception bypass = clazz.getAnnotation(BypassInterception.class);
+            if (bypass != null) {
+                Collections.addAll(bypassClasses, bypass.classes());
+            }
+        }
+        return bypassClasses;
+    }
+    
+    /**
+     * Get the bypass method names declared by the specified container class and its superclasses.
+     * 
+     * @param containerClass container class
+     * @return list of bypass method names
+     * @see BypassInterception#methods()
+     */
+    static List<String> bypassMethodsOf(final Class<?> containerClass) {
+        List<String> bypassMethods = new ArrayList<>();
+        for (Class<?> clazz = containerClass; clazz != null; clazz = clazz.getSuperclass()) {
+            BypassInterception bypass = clazz.getAnnotation(BypassInterception.class);
+            if (bypass != null) {
+                Collections.addAll(bypassMethods, bypass.methods());
+            }
+        }
+        return bypassMethods;
     }
     
     /**
@@ -80,50 +128,89 @@ public abstract class Enhanceable<T> {
         Class<?>[] argumentTypes = enhanceable.getArgumentTypes();
         Object[] arguments = enhanceable.getArguments();
         
-        Class<C> proxyType;
+        Class<C> proxyType = (Class<C>) proxyMap.get(containerClass);
+        if (proxyType == null) {
+            // generate outside the map's lock; if another thread got there first, its proxy type is used
+            Class<?> generated = getProxyType(enhanceable, containerClass);
+            Class<?> existing = proxyMap.putIfAbsent(containerClass, generated);
+            proxyType = (Class<C>) ((existing != null) ? existing : generated);
+        }
         
-        synchronized(Enhanceable.class) {
-            if (proxyMap.containsKey(containerClass)) {
-                proxyType = (Class<C>) proxyMap.get(containerClass);
-            } else {
-                List<Class<?>> bypassClasses = enhanceable.getBypassClasses();
-                List<String> methodNames = enhanceable.getBypassMethods();
-                
-                ElementMatcher.Junction<MethodDescription> matcher = ElementMatchers.none();
-                
-                for (Class<?> bypassClass : bypassClasses) {
-                    for (Method method : bypassClass.getMethods()) {
-                        matcher = matcher.or(is(method));
-                    }
-                }
-                
-                for (String methodName : methodNames) {
-                    matcher = matcher.or(hasMethodName(methodName));
-                }
-                
-                proxyType = (Class<C>) new ByteBuddy()
-                                .subclass(containerClass)
-                                .name(containerClass.getPackage().getName() + ".Enhanced" + containerClass.getSimpleName())
-                                .method(not(matcher))
-                                .intercept(MethodDelegation.to(ContainerMethodInterceptor.INSTANCE))
-                                .implement(Enhanced.class)
-                                .make()
-                                .load(containerClass.getClassLoader())
-                                .getLoaded();
-                
-                proxyMap.put(containerClass, proxyType);
+        return ContainerFactory.newInstance(proxyType, argumentTypes, arguments);
+    }
+    
+    /**
+     * Get the "enhanced" subclass of the specified container class. If this subclass was generated at build time,
+     * it's loaded from the class loader of the container class; otherwise, it's created now.
+     * 
+     * @param enhanceable instance of the container class
+     * @param containerClass container class
+     * @return "enhanced" container class
+     */
+    static Class<?> getProxyType(final Enhanceable<?> enhanceable, final Class<?> containerClass) {
+        try {
+            Class<?> proxyType = Class.forName(getProxyName(containerClass), true, containerClass.getClassLoader());
+            if ((proxyType.getSuperclass() == containerClass) && Enhanced.class.isAssignableFrom(proxyType)) {
+                return proxyType;
             }
+        } catch (ClassNotFoundException | LinkageError e) { //NOSONAR
+            // not generated at build time
+        }
+        return makeProxyType(enhanceable, containerClass).load(containerClass.getClassLoader()).getLoaded();
+    }
+    
+    /**
+     * Make the "enhanced" subclass of the specified container class. Methods declared by
+     * {@link #getBypassClasses() bypass classes} and methods with {@link #getBypassMethods() bypass names} aren't
+     * intercepted.
+     * 
+     * @param enhanceable instance of the container class
+     * @param containerClass container class
+     * @return unloaded "enhanced" container class
+     */
+    static DynamicType.Unloaded<?> makeProxyType(final Enhanceable<?> enhanceable, final Class<?> containerClass) {
+        return makeProxyType(containerClass, enhanceable.getBypassClasses(), enhanceable.getBypassMethods());
+    }
+    
+    /**
+     * Make the "enhanced" subclass of the specified container class with the specified bypass lists.
+     * 
+     * @param containerClass container class
+     * @param bypassClasses classes whose declared methods should not be intercepted
+     * @param bypassNames names of methods that should not be intercepted
+     * @return unloaded "enhanced" container class
+     */
+    static DynamicType.Unloaded<?> makeProxyType(final Class<?> containerClass, final List<Class<?>> bypassClasses,
+                    final List<String> bypassNames) {
+        List<Method> bypassMethods = new ArrayList<>();
+        for (Class<?> bypassClass : bypassClasses) {
+            Collections.addAll(bypassMethods, bypassClass.getMethods());
         }
         
-        try {
-            return proxyType.getConstructor(argumentTypes).newInstance(arguments);
-        } catch (InvocationTargetException e) { //NOSONAR
-            throw UncheckedThrow.throwUnchecked(e.getCause());
-        } catch (SecurityException | IllegalAccessException | IllegalArgumentException
-                        | NoSuchMethodException | InstantiationException e)
-        {
-            throw UncheckedThrow.throwUnchecked(e);
+        ElementMatcher.Junction<MethodDescription> matcher =
+                        anyOf(bypassMethods.toArray(new Method[bypassMethods.size()]));
+        
+        for (String methodName : bypassNames) {
+            matcher = matcher.or(hasMethodName(methodName));
         }
+        
+        return new ByteBuddy()
+                        .subclass(containerClass)
+                        .name(getProxyName(containerClass))
+                        .method(not(matcher))
+                        .intercept(MethodDelegation.to(ContainerMethodInterceptor.Dispatcher.class))
+                        .implement(Enhanced.class)
+                        .make();
+    }
+    
+    /**
+     * Get the name of the "enhanced" subclass of the specified container class.
+     * 
+     * @param containerClass container class
+     * @return "enhanced" class name
+     */
+    static String getProxyName(final Class<?> containerClass) {
+        return containerClass.getPackage().getName() + ".Enhanced" + containerClass.getSimpleName();
     }
     
     /**
@@ -0,0 +1,160 @@
+package com.nordstrom.automation.selenium.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nordstrom.automation.selenium.annotations.BypassInterception;
+
+/**
+ * This utility class generates the "enhanced" subclasses of component container classes at build time, writing them
+ * into the classes directory that holds the container classes. At runtime, {@link Enhanceable} loads these classes
+ * instead of creating them, falling back to runtime creation for any container class that was missed.
+ * <p>
+ * The generator is run after compilation with the classes directory as its sole argument. The directory and the
+ * dependencies of its classes must be on the class path. For example, with the <b>exec-maven-plugin</b>:
+ * <pre>
+ * &lt;execution&gt;
+ *   &lt;id&gt;enhance-containers&lt;/id&gt;
+ *   &lt;phase&gt;process-classes&lt;/phase&gt;
+ *   &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *   &lt;configuration&gt;
+ *     &lt;mainClass&gt;com.nordstrom.automation.selenium.model.EnhancedContainerGenerator&lt;/mainClass&gt;
+ *     &lt;arguments&gt;&lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;&lt;/arguments&gt;
+ *   &lt;/configuration&gt;
+ * &lt;/execution&gt;</pre>
+ * <b>NOTE</b>: The bypass lists of each container class are read from its {@link BypassInterception} declarations.
+ * Container classes that override {@link Enhanceable#getBypassClasses() getBypassClasses} or
+ * {@link Enhanceable#getBypassMethods() getBypassMethods} are skipped, and are enhanced at runtime instead.
+ */
+public final class EnhancedContainerGenerator {
+    
+    private static final String CLASS_EXT = ".class";
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnhancedContainerGenerator.class);
+    
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private EnhancedContainerGenerator() {
+        throw new AssertionError("EnhancedContainerGenerator is a static utility class that cannot be instantiated");
+    }
+    
+    /**
+     * Generate the "enhanced" subclasses of the component container classes in the specified classes directory.
+     * 
+     * @param args classes directory
+     * @throws IOException If an I/O error occurs
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: EnhancedContainerGenerator <classes-directory>");
+        }
+        int count = generate(Paths.get(args[0]), Thread.currentThread().getContextClassLoader());
+        LOGGER.info("Generated {} enhanced container classes in {}", count, args[0]);
+    }
+    
+    /**
+     * Generate the "enhanced" subclasses of the component container classes in the specified classes directory.
+     * 
+     * @param classesDir classes directory
+     * @param loader class loader for the container classes
+     * @return number of classes generated
+     * @throws IOException If an I/O error occurs
+     */
+    public static int generate(final Path classesDir, final ClassLoader loader) throws IOException {
+        int count = 0;
+        for (Class<?> containerClass : getContainerClasses(classesDir, loader)) {
+            if (overridesBypassLists(containerClass)) {
+                LOGGER.info("Container class '{}' overrides its bypass lists; it will be enhanced at runtime",
+                                containerClass.getName());
+                continue;
+            }
+            Enhanceable.makeProxyType(containerClass, Enhanceable.bypassClassesOf(containerClass),
+                            Enhanceable.bypassMethodsOf(containerClass)).saveIn(classesDir.toFile());
+            count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Get the enhanceable component container classes in the specified classes directory.
+     * 
+     * @param classesDir classes directory
+     * @param loader class loader for the container classes
+     * @return list of enhanceable container classes
+     * @throws IOException If an I/O error occurs
+     */
+    private static List<Class<?>> getContainerClasses(final Path classesDir, final ClassLoader loader)
+                    throws IOException {
+        List<String> classNames;
+        try (Stream<Path> paths = Files.walk(classesDir)) {
+            classNames = paths.map(path -> classesDir.relativize(path).toString())
+                            .filter(name -> name.endsWith(CLASS_EXT))
+                            .map(name -> name.substring(0, name.length() - CLASS_EXT.length())
+                                            .replace(File.separatorChar, '.'))
+                            .collect(Collectors.toList());
+        }
+        
+        List<Class<?>> containerClasses = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.warn("Unable to load class '{}'", className, e);
+                continue;
+            }
+            if (isEnhanceable(clazz)) {
+                containerClasses.add(clazz);
+            }
+        }
+        return containerClasses;
+    }
+    
+    /**
+     * Determine if the specified class is a component container class that can be enhanced.
+     * 
+     * @param clazz class to be evaluated
+     * @return 'true' if the specified class can be enhanced; otherwise 'false'
+     */
+    private static boolean isEnhanceable(final Class<?> clazz) {
+        int modifiers = clazz.getModifiers();
+        return ComponentContainer.class.isAssignableFrom(clazz)
+                        && !Enhanced.class.isAssignableFrom(clazz)
+                        && !Modifier.isAbstract(modifiers)
+                        && !Modifier.isFinal(modifiers)
+                        && Modifier.isPublic(modifiers)
+                        && ((clazz.getEnclosingClass() == null) || Modifier.isStatic(modifiers));
+    }
+    
+    /**
+     * Determine if the specified container class (or one of its superclasses) overrides the bypass list methods,
+     * in which case its bypass lists can't be determined from its {@link BypassInterception} declarations.
+     * 
+     * @param containerClass container class
+     * @return 'true' if the bypass list methods are overridden; otherwise 'false'
+     */
+    private static boolean overridesBypassLists(final Class<?> containerClass) {
+        for (Class<?> clazz = containerClass; clazz != Enhanceable.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if ((method.getParameterCount() == 0) && ("getBypassClasses".equals(method.getName())
+                                || "getBypassMethods".equals(method.getName()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
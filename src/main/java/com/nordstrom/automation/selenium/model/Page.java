@@ -3,10 +3,10 @@ package com.nordstrom.automation.selenium.model;
 import java.net.URI;
 import java.util.Arrays;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 
+import com.nordstrom.automation.selenium.annotations.BypassInterception;
 import com.nordstrom.automation.selenium.annotations.InitialPage;
 import com.nordstrom.automation.selenium.annotations.PageUrl;
 import com.nordstrom.automation.selenium.exceptions.InitialPageNotSpecifiedException;
@@ -22,6 +22,8 @@ import com.nordstrom.automation.selenium.exceptions.InitialPageNotSpecifiedExcep
  * Your page class must implement #1, which is the sole public constructor. The second constructor is package-private,
  * used by the {@link Frame} class to perform superclass initialization.
  */
+@BypassInterception(methods = {"setWindowHandle", "getWindowHandle", "setSpawningPage", "getSpawningPage",
+        "setWindowState", "getWindowState", "openInitialPage", "getInitialUrl", "getPageUrl"})
 public class Page extends ComponentContainer {
 
     private String windowHandle;
@@ -33,9 +35,6 @@ public class Page extends ComponentContainer {
     private static final Class<?>[] ARG_TYPES_1 = {WebDriver.class};
     private static final Class<?>[] ARG_TYPES_2 = {WebDriver.class, ComponentContainer.class};
     
-    private static final String[] BYPASS_METHODS = {"setWindowHandle", "getWindowHandle", "setSpawningPage",
-            "getSpawningPage", "setWindowState", "getWindowState", "openInitialPage", "getInitialUrl", "getPageUrl"};
-    
     /**
      * This enumeration enables container methods to inform the {@link ContainerMethodInterceptor} that actions they've
      * performed will cause a browser window to open or close.
@@ -243,14 +242,6 @@ public class Page extends ComponentContainer {
         return arguments;
     }
     
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    String[] myBypassMethods() {
-        return ArrayUtils.addAll(super.myBypassMethods(), BYPASS_METHODS);
-    }
-    
     /**
      * Create an enhanced instance of the specified container.
      * 
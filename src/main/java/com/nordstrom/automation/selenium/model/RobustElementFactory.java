@@ -1,15 +1,27 @@
 package com.nordstrom.automation.selenium.model;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
 
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
+import com.nordstrom.automation.selenium.core.ByType;
+import com.nordstrom.automation.selenium.core.JsUtility;
 import com.nordstrom.automation.selenium.interfaces.WrapsContext;
+import com.nordstrom.automation.selenium.support.Coordinators;
 import com.nordstrom.common.base.UncheckedThrow;
 
 import net.bytebuddy.ByteBuddy;
@@ -29,7 +41,18 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
  */
 public final class RobustElementFactory {
     
-    private static final Map<String, InstanceCreator> creatorMap = new HashMap<>();
+    /** robust element factories, keyed by the concrete class of the wrapped element */
+    private static final Map<Class<?>, InstanceCreator> creatorMap = new ConcurrentHashMap<>();
+    /** element classes learned for each driver class (used when no element reference is available) */
+    private static final Map<Class<?>, Class<? extends WebElement>> elementClassMap = new ConcurrentHashMap<>();
+    
+    private static final String LOCATE_BATCH = JsUtility.getScriptResource("locateBatch.js");
+    
+    private static final LongAdder LOOKUPS = new LongAdder();
+    private static final LongAdder BUILDS = new LongAdder();
+    private static final LongAdder PROBES = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder MISS_NANOS = new LongAdder();
     
     /**
      * Private constructor to prevent instantiation.
@@ -75,31 +98,80 @@ public final class RobustElementFactory {
     public static WebElement makeRobustElement(
                     final WebElement element, final WrapsContext context, final By locator, final int index) {
         
-        InstanceCreator creator = getCreator(context);
         RobustElementWrapper interceptor = new RobustElementWrapper(element, context, locator, index);
+        InstanceCreator creator = getCreator(interceptor);
         WebElement robust = (WebElement) creator.makeInstance();
         ((InterceptionAccessor) robust).setInterceptor(interceptor);
         return robust;
     }
     
     /**
-     * Get robust web element factory for this context.
+     * Get robust web element factory for the element wrapped by the specified interceptor.
+     * <p>
+     * <b>NOTE</b>: Factories are keyed by the concrete class of the wrapped element. The common path is a single
+     * lock-free map read; the registry is only locked (per key) while a new wrapper class is being generated.
      * 
-     * @param context target context
+     * @param interceptor robust element interceptor
      * @return robust web element factory
      */
-    private static synchronized InstanceCreator getCreator(final WrapsContext context) {
-        WebDriver driver = context.getWrappedDriver();
-        String driverName = driver.getClass().getName();
-        if (creatorMap.containsKey(driverName)) {
-            return creatorMap.get(driverName);
+    private static InstanceCreator getCreator(final RobustElementWrapper interceptor) {
+        LOOKUPS.increment();
+        Class<? extends WebElement> refClass = getReferenceClass(interceptor);
+        InstanceCreator creator = creatorMap.get(refClass);
+        if (creator == null) {
+            long prior = System.nanoTime();
+            creator = creatorMap.computeIfAbsent(refClass, RobustElementFactory::createInstanceCreator);
+            MISSES.increment();
+            MISS_NANOS.add(System.nanoTime() - prior);
+        }
+        return creator;
+    }
+    
+    /**
+     * Get the concrete class of the element wrapped by the specified interceptor.
+     * <p>
+     * <b>NOTE</b>: If the interceptor holds no reference (absent optional element), the class is determined from
+     * the classes previously learned for the driver. Only as a last resort is the driver probed for an element.
+     * 
+     * @param interceptor robust element interceptor
+     * @return concrete class of wrapped element
+     */
+    private static Class<? extends WebElement> getReferenceClass(final RobustElementWrapper interceptor) {
+        WebDriver driver = interceptor.getWrappedDriver();
+        WebElement reference = interceptor.peekWrappedElement();
+        if (reference != null) {
+            Class<? extends WebElement> refClass = reference.getClass();
+            elementClassMap.putIfAbsent(driver.getClass(), refClass);
+            return refClass;
         }
         
-        WebElement reference = driver.findElement(By.cssSelector("*"));
-        Class<? extends WebElement> refClass = reference.getClass();
-        
+        Class<? extends WebElement> refClass = elementClassMap.get(driver.getClass());
+        if (refClass == null) {
+            if (driver instanceof RemoteWebDriver) {
+                refClass = RemoteWebElement.class;
+            } else {
+                PROBES.increment();
+                refClass = driver.findElement(By.cssSelector("*")).getClass();
+                elementClassMap.putIfAbsent(driver.getClass(), refClass);
+            }
+        }
+        return refClass;
+    }
+    
+    /**
+     * Create robust web element factory for the specified element class.
+     * <p>
+     * <b>NOTE</b>: Each method of the element class is bound to the method of {@link RobustElementWrapper} with the
+     * same name if one exists, which the generated class invokes directly on its interceptor field. All other methods
+     * are bound to the generic {@link RobustElementWrapper#intercept intercept} method.
+     * 
+     * @param refClass concrete class of wrapped element
+     * @return robust web element factory
+     */
+    private static InstanceCreator createInstanceCreator(final Class<?> refClass) {
+        BUILDS.increment();
         Class<? extends WebElement> wrapperClass = new ByteBuddy()
-                        .subclass(refClass)
+                        .subclass(refClass.asSubclass(WebElement.class))
                         .name(refClass.getPackage().getName() + ".Robust" + refClass.getSimpleName())
                         .method(not(isDeclaredBy(Object.class)))
                         .intercept(MethodDelegation.withEmptyConfiguration()
@@ -114,10 +186,8 @@ public final class RobustElementFactory {
                         .load(refClass.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
                         .getLoaded();
         
-        InstanceCreator creator;
-        
         try {
-            creator = new ByteBuddy()
+            return new ByteBuddy()
                             .subclass(InstanceCreator.class)
                             .method(not(isDeclaredBy(Object.class)))
                             .intercept(MethodDelegation.toConstructor(wrapperClass))
@@ -127,9 +197,90 @@ public final class RobustElementFactory {
         } catch (InstantiationException | IllegalAccessException e) {
             throw UncheckedThrow.throwUnchecked(e);
         }
+    }
+    
+    /**
+     * Get a snapshot of the robust element factory registry statistics.
+     * 
+     * @return {@link CreatorStats} object
+     */
+    public static CreatorStats getCreatorStats() {
+        return new CreatorStats(LOOKUPS.sum(), BUILDS.sum(), PROBES.sum(), MISSES.sum(), MISS_NANOS.sum());
+    }
+    
+    /**
+     * This class is a snapshot of the statistics collected by the robust element factory registry.
+     */
+    public static final class CreatorStats {
         
-        creatorMap.put(driverName, creator);
-        return creator;
+        private final long lookups;
+        private final long builds;
+        private final long probes;
+        private final long misses;
+        private final long missNanos;
+        
+        private CreatorStats(final long lookups, final long builds, final long probes,
+                        final long misses, final long missNanos) {
+            this.lookups = lookups;
+            this.builds = builds;
+            this.probes = probes;
+            this.misses = misses;
+            this.missNanos = missNanos;
+        }
+        
+        /**
+         * Get the number of factory lookups.
+         * 
+         * @return factory lookup count
+         */
+        public long getLookups() {
+            return lookups;
+        }
+        
+        /**
+         * Get the number of wrapper classes generated.
+         * 
+         * @return wrapper class build count
+         */
+        public long getBuilds() {
+            return builds;
+        }
+        
+        /**
+         * Get the number of driver probes issued to determine the element class.
+         * 
+         * @return driver probe count
+         */
+        public long getProbes() {
+            return probes;
+        }
+        
+        /**
+         * Get the number of lookups that missed the lock-free read (the wrapper class build path).
+         * 
+         * @return cache miss count
+         */
+        public long getMisses() {
+            return misses;
+        }
+        
+        /**
+         * Get the total time spent resolving cache misses (including wrapper class generation).
+         * 
+         * @return cache miss time in nanoseconds
+         */
+        public long getMissNanos() {
+            return missNanos;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return String.format("lookups: %d; builds: %d; probes: %d; misses: %d (%dus)",
+                            lookups, builds, probes, misses, missNanos / 1000);
+        }
     }
     
     /**
@@ -172,9 +323,18 @@ public final class RobustElementFactory {
      * @return list of robust elements in context that match the locator
      */
     public static List<WebElement> getElements(final WrapsContext context, final By locator) {
+        List<WebElement> prefetched = getPrefetched(context, locator);
+        if (prefetched != null) {
+            List<WebElement> elements = new ArrayList<>(prefetched.size());
+            for (int index = 0; index < prefetched.size(); index++) {
+                elements.add(makeRobustElement(prefetched.get(index), context, locator, index));
+            }
+            return elements;
+        }
+        
         List<WebElement> elements;
         try {
-            elements = context.getWrappedContext().findElements(locator);
+            elements = findElements(context.getWrappedContext(), locator);
             for (int index = 0; index < elements.size(); index++) {
                 elements.set(index, makeRobustElement(elements.get(index), context, locator, index));
             }
@@ -183,6 +343,85 @@ public final class RobustElementFactory {
         }
         return elements;
     }
+    
+    /**
+     * Get the list of elements that match the specified locator in the indicated search context, waiting up to the
+     * {@link WaitType#IMPLIED implied} interval for at least one match.
+     * <p>
+     * <b>NOTE</b>: The implicit wait interval of the driver is held at zero, so native searches don't poll. Robust
+     * search contexts perform this wait themselves, so their searches are passed through.
+     * 
+     * @param searchContext element search context
+     * @param locator element locator
+     * @return list of elements in context that match the locator; empty list if none appeared
+     */
+    private static List<WebElement> findElements(final SearchContext searchContext, final By locator) {
+        if (searchContext instanceof WrapsContext) {
+            return searchContext.findElements(locator);
+        }
+        try {
+            return WaitType.IMPLIED.getWait(searchContext).until(Coordinators.presenceOfElementsLocated(locator));
+        } catch (TimeoutException e) { //NOSONAR
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Get the list of elements that match the specified locator in the indicated context, acquiring the elements
+     * that match each of the specified child locators within each of these elements in the same script execution.
+     * <p>
+     * <b>NOTE</b>: The child element references are used to seed the robust elements in the returned list. If the
+     * driver can't execute JavaScript or any of the locators can't be converted to CSS or XPath, this method falls
+     * back to {@link #getElements(WrapsContext, By)}.
+     * 
+     * @param context element search context
+     * @param locator element locator
+     * @param children child element locators
+     * @return list of robust elements in context that match the locator
+     */
+    @SuppressWarnings("unchecked")
+    static List<WebElement> getElements(final WrapsContext context, final By locator, final List<By> children) {
+        WebDriver driver = context.getWrappedDriver();
+        List<String> spec = ByType.scriptSpecFor(locator);
+        List<List<String>> childSpecs = new ArrayList<>();
+        for (By child : children) {
+            childSpecs.add(ByType.scriptSpecFor(child));
+        }
+        
+        if ((spec == null) || childSpecs.contains(null) || !(driver instanceof JavascriptExecutor)) {
+            return getElements(context, locator);
+        }
+        
+        List<List<Object>> entries;
+        try {
+            entries = JsUtility.runAndReturn(driver, LOCATE_BATCH,
+                            contextArg(context), spec.get(0), spec.get(1), childSpecs);
+        } catch (StaleElementReferenceException e) { //NOSONAR
+            context.refreshContext(context.acquiredAt());
+            entries = JsUtility.runAndReturn(driver, LOCATE_BATCH,
+                            contextArg(context), spec.get(0), spec.get(1), childSpecs);
+        }
+        
+        // collection may still be rendering; wait for it through the standard path
+        if (entries.isEmpty()) {
+            return getElements(context, locator);
+        }
+        
+        List<WebElement> elements = new ArrayList<>(entries.size());
+        for (int index = 0; index < entries.size(); index++) {
+            List<Object> entry = entries.get(index);
+            WebElement element = makeRobustElement((WebElement) entry.get(0), context, locator, index);
+            
+            Map<By, List<WebElement>> prefetched = new HashMap<>();
+            for (int i = 0; i < children.size(); i++) {
+                prefetched.put(children.get(i), (List<WebElement>) entry.get(i + 1));
+            }
+            ((InterceptionAccessor) element).getInterceptor().setPrefetched(prefetched);
+            
+            elements.add(element);
+        }
+        return elements;
+    }
 
     /**
      * Get the first element that matches the specified locator in the indicated context.
@@ -205,6 +444,47 @@ public final class RobustElementFactory {
      * @return indexed robust element in context that matches the locator
      */
     public static WebElement getElement(final WrapsContext context, final By locator, final int index) {
+        List<WebElement> prefetched = getPrefetched(context, locator);
+        int offset = Math.max(index, 0);
+        if ((prefetched != null) && (offset < prefetched.size())) {
+            return makeRobustElement(prefetched.get(offset), context, locator, index);
+        }
         return makeRobustElement(null, context, locator, index);
     }
+    
+    /**
+     * Get the prefetched references to elements that match the specified locator in the indicated context.
+     * 
+     * @param context element search context
+     * @param locator element locator
+     * @return list of prefetched element references; 'null' if none are available
+     */
+    private static List<WebElement> getPrefetched(final WrapsContext context, final By locator) {
+        Object target = context;
+        if (context instanceof ComponentContainer) {
+            target = ((ComponentContainer) context).context;
+        }
+        if (target instanceof InterceptionAccessor) {
+            return ((InterceptionAccessor) target).getInterceptor().getPrefetched(locator);
+        }
+        if (target instanceof RobustElementWrapper) {
+            return ((RobustElementWrapper) target).getPrefetched(locator);
+        }
+        return null;
+    }
+    
+    /**
+     * Get the context argument for the locator scripts.
+     * 
+     * @param context element search context
+     * @return list containing the context element; empty list for document context
+     */
+    private static List<WebElement> contextArg(final WrapsContext context) {
+        List<WebElement> contextArg = new ArrayList<>();
+        SearchContext searchContext = context.getWrappedContext();
+        if (searchContext instanceof WebElement) {
+            contextArg.add((WebElement) searchContext);
+        }
+        return contextArg;
+    }
 }
@@ -5,18 +5,20 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Point;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.WebDriver.Timeouts;
 import org.openqa.selenium.internal.FindsByCssSelector;
 import org.openqa.selenium.internal.FindsByXPath;
 
@@ -41,6 +43,16 @@ import net.bytebuddy.implementation.bind.annotation.This;
  * This class defines the generic interceptor for the methods of wrapped web element references. It also provides
  * implementations for methods that acquire web element references and recover from StaleElementReferenceException
  * failures.  
+ * <p>
+ * <b>NOTE</b>: The frequently used methods of {@link WebElement} are implemented here directly, with the same
+ * stale-reference retry as the generic interceptor. Robust element classes bind these methods by name, forwarding
+ * each call to the wrapped element without reflection or argument arrays. The remaining methods of the wrapped
+ * element class are dispatched through {@link #intercept(Object, Method, Object[])}.
+ * <p>
+ * Each wrapper records the {@link DomEpoch DOM epoch} of its window in which its reference was acquired. Once this
+ * epoch advances (e.g. - after navigation to a new page), the reference is re-acquired on next use, avoiding a failed
+ * driver command and the {@link StaleElementReferenceException} it would produce. The counts of proactive and
+ * exception-driven refreshes are available from {@link #getRefreshStats()}.
  */
 @SuppressWarnings("squid:S1200")
 public class RobustElementWrapper implements ReferenceFetcher {
@@ -55,6 +67,9 @@ public class RobustElementWrapper implements ReferenceFetcher {
     private static final String LOCATE_BY_CSS = JsUtility.getScriptResource("locateByCss.js");
     private static final String LOCATE_BY_XPATH = JsUtility.getScriptResource("locateByXpath.js");
     
+    private static final LongAdder STALE_REFRESHES = new LongAdder();
+    private static final LongAdder EPOCH_REFRESHES = new LongAdder();
+    
     private enum Strategy { LOCATOR, JS_XPATH, JS_CSS }
     
     private final WebDriver driver;
@@ -68,8 +83,13 @@ public class RobustElementWrapper implements ReferenceFetcher {
     
     private long acquiredAt;
     
+    private final DomEpoch domEpoch;
+    private long epoch;
+    
     private NoSuchElementException deferredException;
     
+    private Map<By, List<WebElement>> prefetched;
+    
     private final boolean findsByCssSelector;
     private final boolean findsByXPath;
     
@@ -89,6 +109,7 @@ public class RobustElementWrapper implements ReferenceFetcher {
         if (element instanceof RobustWebElement) {
             RobustElementWrapper wrapper = ((InterceptionAccessor) element).getInterceptor();
             this.acquiredAt = wrapper.acquiredAt;
+            this.epoch = wrapper.epoch;
             
             this.wrapped = wrapper.wrapped;
             this.context = wrapper.context;
@@ -108,21 +129,27 @@ public class RobustElementWrapper implements ReferenceFetcher {
         }
         
         driver = WebDriverUtils.getDriver(this.context.getWrappedContext());
+        domEpoch = getDomEpoch(this.context, driver);
+        if (!(element instanceof RobustWebElement)) {
+            epoch = domEpoch.current();
+        }
         
         findsByCssSelector = (driver instanceof FindsByCssSelector);
         findsByXPath = (driver instanceof FindsByXPath);
         
         if ((this.index == OPTIONAL) || (this.index > 0)) {
-            if (findsByXPath && ( ! (this.locator instanceof By.ByCssSelector))) {
-                selector = ByType.xpathLocatorFor(this.locator);
+            ByType.Translation translation = ByType.translationOf(this.locator);
+            if (findsByXPath && (translation.getXPath() != null)) {
                 if (this.index > 0) {
-                    selector += "[" + (this.index + 1) + "]";
+                    selector = translation.getXPath() + "[" + (this.index + 1) + "]";
+                    this.locator = By.xpath(this.selector);
+                } else {
+                    selector = translation.getXPath();
+                    this.locator = translation.getXPathLocator();
                 }
                 strategy = Strategy.JS_XPATH;
-                
-                this.locator = By.xpath(this.selector);
             } else if (findsByCssSelector) {
-                selector = ByType.cssLocatorFor(this.locator);
+                selector = translation.getCss();
                 if (selector != null) {
                     strategy = Strategy.JS_CSS;
                 }
@@ -169,7 +196,7 @@ public class RobustElementWrapper implements ReferenceFetcher {
      * @return {@code anything} (the result of invoking the specified method)
      * @throws Exception {@code anything} (exception thrown by the specified method)
      */
-    private Object invoke(Method method, Object... args) throws Exception { // NOSONAR
+    private Object invoke(Method method, Object[] args) throws Exception { // NOSONAR
         WebElement target = getWrappedElement();
         
         if (target == null) {
@@ -186,6 +213,203 @@ public class RobustElementWrapper implements ReferenceFetcher {
         }
     }
     
+    /**
+     * Get the wrapped element reference, throwing the deferred exception if no reference was acquired.
+     * 
+     * @return wrapped element reference
+     */
+    private WebElement target() {
+        WebElement target = getWrappedElement();
+        if (target == null) {
+            throw deferredException();
+        }
+        return target;
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#click()}.
+     */
+    public void click() {
+        try {
+            target().click();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            target().click();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#submit()}.
+     */
+    public void submit() {
+        try {
+            target().submit();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            target().submit();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#sendKeys(CharSequence...)}.
+     * 
+     * @param keysToSend character sequence to send to the element
+     */
+    public void sendKeys(final CharSequence... keysToSend) {
+        try {
+            target().sendKeys(keysToSend);
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            target().sendKeys(keysToSend);
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#clear()}.
+     */
+    public void clear() {
+        try {
+            target().clear();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            target().clear();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getTagName()}.
+     * 
+     * @return tag name of this element
+     */
+    public String getTagName() {
+        try {
+            return target().getTagName();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getTagName();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getAttribute(String)}.
+     * 
+     * @param name name of the attribute
+     * @return current value of the attribute/property; 'null' if not set
+     */
+    public String getAttribute(final String name) {
+        try {
+            return target().getAttribute(name);
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getAttribute(name);
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#isSelected()}.
+     * 
+     * @return 'true' if this element is selected; otherwise 'false'
+     */
+    public boolean isSelected() {
+        try {
+            return target().isSelected();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().isSelected();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#isEnabled()}.
+     * <p>
+     * <b>NOTE</b>: If no reference was acquired for an optional element, this method returns 'false'.
+     * 
+     * @return 'true' if this element is enabled; otherwise 'false'
+     */
+    public boolean isEnabled() {
+        try {
+            WebElement target = getWrappedElement();
+            return (target != null) && target.isEnabled();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().isEnabled();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getText()}.
+     * 
+     * @return visible text of this element
+     */
+    public String getText() {
+        try {
+            return target().getText();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getText();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#isDisplayed()}.
+     * <p>
+     * <b>NOTE</b>: If no reference was acquired for an optional element, this method returns 'false'.
+     * 
+     * @return 'true' if this element is displayed; otherwise 'false'
+     */
+    public boolean isDisplayed() {
+        try {
+            WebElement target = getWrappedElement();
+            return (target != null) && target.isDisplayed();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().isDisplayed();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getLocation()}.
+     * 
+     * @return location of the top left-hand corner of this element
+     */
+    public Point getLocation() {
+        try {
+            return target().getLocation();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getLocation();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getSize()}.
+     * 
+     * @return size of this element
+     */
+    public Dimension getSize() {
+        try {
+            return target().getSize();
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getSize();
+        }
+    }
+    
+    /**
+     * Robust implementation of {@link WebElement#getCssValue(String)}.
+     * 
+     * @param propertyName name of the CSS property
+     * @return current, computed value of the property
+     */
+    public String getCssValue(final String propertyName) {
+        try {
+            return target().getCssValue(propertyName);
+        } catch (StaleElementReferenceException sere) {
+            refreshReference(sere);
+            return target().getCssValue(propertyName);
+        }
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -193,10 +417,43 @@ public class RobustElementWrapper implements ReferenceFetcher {
     public WebElement getWrappedElement() {
         if (wrapped == null) {
             refreshReference(null);
+        } else if (epoch != domEpoch.current()) {
+            EPOCH_REFRESHES.increment();
+            refreshReference(null);
         }
         return wrapped;
     }
     
+    /**
+     * Get the wrapped element reference without attempting to acquire it.
+     * 
+     * @return wrapped element reference (may be 'null')
+     */
+    WebElement peekWrappedElement() {
+        return wrapped;
+    }
+    
+    /**
+     * Seed this wrapper with references to elements within its context that were acquired in batch.
+     * 
+     * @param prefetched map of child locators to lists of matching element references
+     */
+    void setPrefetched(final Map<By, List<WebElement>> prefetched) {
+        this.prefetched = prefetched;
+    }
+    
+    /**
+     * Get the prefetched references to elements within this context that match the specified locator.
+     * <p>
+     * <b>NOTE</b>: Prefetched references are discarded when this wrapper re-acquires its own reference.
+     * 
+     * @param locator child element locator
+     * @return list of prefetched element references; 'null' if none are available
+     */
+    List<WebElement> getPrefetched(final By locator) {
+        return (prefetched != null) ? prefetched.get(locator) : null;
+    }
+    
     /**
      * Search for the specified optional element
      * 
@@ -212,7 +469,7 @@ public class RobustElementWrapper implements ReferenceFetcher {
      */
     @Override
     public boolean hasReference() {
-        if ((index == OPTIONAL) && (wrapped == null)) {
+        if ((index == OPTIONAL) && ((wrapped == null) || (epoch != domEpoch.current()))) {
             acquireReference(this);
             return (null != wrapped);
         } else {
@@ -249,6 +506,15 @@ public class RobustElementWrapper implements ReferenceFetcher {
      */
     @Override
     public RobustElementWrapper refreshReference(final StaleElementReferenceException refreshTrigger) {
+        if (refreshTrigger != null) {
+            // a failed refresh isn't retried
+            if (refreshTrigger instanceof ElementReferenceRefreshFailureException) {
+                throw refreshTrigger;
+            }
+            STALE_REFRESHES.increment();
+            domEpoch.detectReplacement(driver);
+        }
+        
         try {
             WaitType.IMPLIED.getWait((SearchContext) context).until(referenceIsRefreshed(this));
             return this;
@@ -306,29 +572,28 @@ public class RobustElementWrapper implements ReferenceFetcher {
     @SuppressWarnings({"squid:S3776", "squid:S134"})
     private static RobustElementWrapper acquireReference(final RobustElementWrapper wrapper) {
         NoSuchElementException thrown = null;
+        long epoch = wrapper.domEpoch.current();
         SearchContext context = wrapper.context.getWrappedContext();
+        wrapper.prefetched = null;
         
         if (wrapper.strategy == Strategy.LOCATOR) {
-            Timeouts timeouts = wrapper.driver.manage().timeouts().implicitlyWait(0, TimeUnit.SECONDS);
-            try {
-                if (wrapper.index > 0) {
-                    List<WebElement> elements = context.findElements(wrapper.locator);
-                    if (wrapper.index < elements.size()) {
-                        wrapper.wrapped = elements.get(wrapper.index);
-                    } else {
-                        thrown = new NoSuchElementException(
-                                String.format("Too few elements located %s: need: %d; have: %d", 
-                                        wrapper.locator, wrapper.index + 1, elements.size()));
-                    }
+            // no-op unless implicit wait was altered; polling is handled by 'refreshReference'
+            WebDriverUtils.setImplicitWait(wrapper.driver, 0);
+            if (wrapper.index > 0) {
+                List<WebElement> elements = context.findElements(wrapper.locator);
+                if (wrapper.index < elements.size()) {
+                    wrapper.wrapped = elements.get(wrapper.index);
                 } else {
-                    try {
-                        wrapper.wrapped = context.findElement(wrapper.locator);
-                    } catch (NoSuchElementException e) {
-                        thrown = e;
-                    }
+                    thrown = new NoSuchElementException(
+                            String.format("Too few elements located %s: need: %d; have: %d", 
+                                    wrapper.locator, wrapper.index + 1, elements.size()));
+                }
+            } else {
+                try {
+                    wrapper.wrapped = context.findElement(wrapper.locator);
+                } catch (NoSuchElementException e) {
+                    thrown = e;
                 }
-            } finally {
-                timeouts.implicitlyWait(WaitType.IMPLIED.getInterval(), TimeUnit.SECONDS);
             }
         } else {
             List<Object> args = new ArrayList<>();
@@ -370,6 +635,7 @@ public class RobustElementWrapper implements ReferenceFetcher {
             wrapper.deferredException = thrown;
         } else {
             wrapper.acquiredAt = System.currentTimeMillis();
+            wrapper.epoch = epoch;
             wrapper.deferredException = null;
         }
         
@@ -413,6 +679,35 @@ public class RobustElementWrapper implements ReferenceFetcher {
         return driver;
     }
     
+    /**
+     * Get the DOM epoch of the window that contains the specified search context.
+     * 
+     * @param context element search context
+     * @param driver driver object
+     * @return {@link DomEpoch} object for the window of the specified context
+     */
+    private static DomEpoch getDomEpoch(final WrapsContext context, final WebDriver driver) {
+        if (context instanceof RobustElementWrapper) {
+            return ((RobustElementWrapper) context).domEpoch;
+        }
+        if (context instanceof InterceptionAccessor) {
+            return ((InterceptionAccessor) context).getInterceptor().domEpoch;
+        }
+        if (context instanceof ComponentContainer) {
+            return DomEpoch.forWindow(driver, ((ComponentContainer) context).getParentPage().getWindowHandle());
+        }
+        return DomEpoch.forWindow(driver, null);
+    }
+    
+    /**
+     * Get a snapshot of the reference refresh statistics of all robust elements.
+     * 
+     * @return {@link RefreshStats} object
+     */
+    public static RefreshStats getRefreshStats() {
+        return new RefreshStats(STALE_REFRESHES.sum(), EPOCH_REFRESHES.sum());
+    }
+    
     /**
      * Throw the deferred exception that was stored upon failing to acquire the reference for an optional element.
      * <br><p>
@@ -485,4 +780,44 @@ public class RobustElementWrapper implements ReferenceFetcher {
     public List<WebElement> findElements(final By locator) {
         return RobustElementFactory.getElements(this, locator);
     }
+    
+    /**
+     * This class is a snapshot of the reference refresh statistics of all robust elements.
+     */
+    public static final class RefreshStats {
+        
+        private final long staleRefreshes;
+        private final long epochRefreshes;
+        
+        private RefreshStats(final long staleRefreshes, final long epochRefreshes) {
+            this.staleRefreshes = staleRefreshes;
+            this.epochRefreshes = epochRefreshes;
+        }
+        
+        /**
+         * Get the number of references refreshed after a {@link StaleElementReferenceException} was thrown.
+         * 
+         * @return stale reference refresh count
+         */
+        public long getStaleRefreshes() {
+            return staleRefreshes;
+        }
+        
+        /**
+         * Get the number of references re-acquired proactively because their DOM epoch had advanced.
+         * 
+         * @return epoch refresh count
+         */
+        public long getEpochRefreshes() {
+            return epochRefreshes;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return String.format("stale refreshes: %d; epoch refreshes: %d", staleRefreshes, epochRefreshes);
+        }
+    }
 }
@@ -28,4 +28,26 @@ public interface Coordinator<T> extends Function<SearchContext, T> {
     public default TimeoutException differentiateTimeout(TimeoutException e) {
         return e;
     }
+    
+    /**
+     * This method can be overridden by implementations of {@link Coordinator} to provide a form of the implemented
+     * condition that can be evaluated inside the browser. If scripted waits are enabled, {@link SearchContextWait}
+     * awaits this condition in the browser before applying the coordinator.
+     * 
+     * @return {@link ScriptedCondition} object; 'null' if the condition can only be evaluated by the coordinator
+     */
+    public default ScriptedCondition getScriptedCondition() {
+        return null;
+    }
+    
+    /**
+     * This method can be overridden by implementations of {@link Coordinator} to declare the kind of condition
+     * they implement. {@link SearchContextWait} keys its polling statistics by this kind, so it must not vary with
+     * the arguments of the condition (e.g. - the locator of an element).
+     * 
+     * @return coordinator kind; 'null' to identify the kind by the factory method or class of the coordinator
+     */
+    public default String getKind() {
+        return null;
+    }
 }
@@ -4,16 +4,20 @@ import java.util.List;
 import java.util.Set;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import com.google.common.base.Function;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
+import com.nordstrom.automation.selenium.core.JsUtility;
 import com.nordstrom.automation.selenium.core.WebDriverUtils;
 import com.nordstrom.automation.selenium.exceptions.ConditionStillInvalidTimeoutException;
 import com.nordstrom.automation.selenium.exceptions.ConditionStillValidTimeoutException;
@@ -26,6 +30,7 @@ import com.nordstrom.automation.selenium.exceptions.ElementStillFreshTimeoutExce
 import com.nordstrom.automation.selenium.exceptions.ElementStillVisibleTimeoutException;
 import com.nordstrom.automation.selenium.exceptions.ElementTextContentTimeoutException;
 import com.nordstrom.automation.selenium.exceptions.NoWindowAppearedTimeoutException;
+import com.nordstrom.automation.selenium.exceptions.PageTransitionRefreshTimeoutException;
 import com.nordstrom.automation.selenium.exceptions.WindowStillExistsTimeoutException;
 
 /**
@@ -34,6 +39,10 @@ import com.nordstrom.automation.selenium.exceptions.WindowStillExistsTimeoutExce
  */
 public final class Coordinators {
     
+    private static final String AWAIT_PAGE_CHANGE = JsUtility.getScriptResource("awaitPageChange.js");
+    private static final String TOKEN_IS_GONE = "return window.seleniumFoundationToken !== arguments[0];";
+    private static final long AWAIT_INTERVAL = 5000;
+    
     /**
      * Private constructor to prevent instantiation.
      */
@@ -151,6 +160,59 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementNotPresentTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "present");
+            }
+        };
+    }
+
+    /**
+     * An expectation for checking that at least one element matching the specified locator is present on the DOM of
+     * a page. This does not necessarily mean that the elements are visible.
+     * 
+     * @param locator used to find the elements
+     * @return the list of WebElements once at least one is located; 'null' if none are present
+     */
+    public static Coordinator<List<WebElement>> presenceOfElementsLocated(final By locator) {
+        return new Coordinator<List<WebElement>>() {
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public List<WebElement> apply(final SearchContext context) {
+                List<WebElement> elements = context.findElements(locator);
+                return elements.isEmpty() ? null : elements;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String toString() {
+                return "presence of elements located by: " + locator;
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public TimeoutException differentiateTimeout(final TimeoutException e) {
+                return new ElementNotPresentTimeoutException(e.getMessage(), e.getCause());
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "present");
+            }
         };
     }
 
@@ -190,6 +252,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementAbsentOrHiddenTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "visible");
+            }
         };
     }
     
@@ -274,6 +344,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementStillVisibleTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "invisible");
+            }
         };
     }
 
@@ -547,6 +625,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementTextContentTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "textContains", text);
+            }
         };
     }
 
@@ -587,6 +673,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementTextContentTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "textNotEmpty");
+            }
         };
     }
 
@@ -630,6 +724,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementAttributeTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "valueContains", text);
+            }
         };
     }
 
@@ -680,6 +782,14 @@ public final class Coordinators {
             public TimeoutException differentiateTimeout(TimeoutException e) {
                 return new ElementAttributeTimeoutException(e.getMessage(), e.getCause());
             }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public ScriptedCondition getScriptedCondition() {
+                return ScriptedCondition.forElement(locator, "attributeEquals", attribute, value);
+            }
         };
     }
 
@@ -809,4 +919,59 @@ public final class Coordinators {
             }
         };
     }
+    
+    /**
+     * Returns a 'wait' proxy that determines if the page that holds the specified token has been replaced.
+     * <p>
+     * <b>NOTE</b>: Each evaluation of this condition runs an asynchronous script that completes as soon as the page
+     * is hidden or the token is gone, or after a brief interval if neither of these occurs. Page transitions are
+     * therefore detected without waiting for the next polling cycle.
+     *
+     * @param token token planted in the current page (see {@code plantPageToken.js})
+     * @return 'true' if the page has been replaced; otherwise 'null'
+     */
+    public static Coordinator<Boolean> pageIsReplaced(final String token) {
+        return new Coordinator<Boolean>() {
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Boolean apply(final SearchContext context) {
+                JavascriptExecutor executor = WebDriverUtils.getExecutor(context);
+                long interval = Math.min(AWAIT_INTERVAL, WaitType.SCRIPT.getInterval() * 500);
+                try {
+                    if (Boolean.TRUE.equals(executor.executeAsyncScript(AWAIT_PAGE_CHANGE, token, interval))) {
+                        return Boolean.TRUE;
+                    }
+                } catch (WebDriverException e) { //NOSONAR
+                    // script interrupted by page transition; check token below
+                    try {
+                        if (Boolean.TRUE.equals(executor.executeScript(TOKEN_IS_GONE, token))) {
+                            return Boolean.TRUE;
+                        }
+                    } catch (WebDriverException e2) { //NOSONAR
+                        // new page not yet available; try again
+                    }
+                }
+                return null;
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String toString() {
+                return "page to be replaced";
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public TimeoutException differentiateTimeout(TimeoutException e) {
+                return new PageTransitionRefreshTimeoutException(e.getMessage(), e.getCause());
+            }
+        };
+    }
 }
@@ -0,0 +1,78 @@
+package com.nordstrom.automation.selenium.support;
+
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.SeleniumSettings;
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
+
+/**
+ * This enumeration defines the polling schedules available to {@link SearchContextWait}. Each schedule produces the
+ * interval to sleep before each successive poll, starting from the {@link SeleniumSettings#POLLING_START_INTERVAL
+ * initial interval} and never exceeding the {@link SeleniumSettings#POLLING_MAX_INTERVAL maximum interval}.
+ * <p>
+ * The schedule for each {@link WaitType} is selected by its polling setting (e.g. -
+ * {@link SeleniumSettings#WAIT_POLLING WAIT_POLLING}).
+ */
+public enum PollingStrategy {
+    
+    /** poll at the maximum interval */
+    FIXED {
+        @Override
+        public long getInterval(final int poll, final long initial, final long maximum) {
+            return maximum;
+        }
+    },
+    
+    /** double the interval after each poll */
+    EXPONENTIAL {
+        @Override
+        public long getInterval(final int poll, final long initial, final long maximum) {
+            if (poll >= Long.numberOfLeadingZeros(Math.max(initial, 1)) - 1) {
+                return maximum;
+            }
+            return Math.min(initial << poll, maximum);
+        }
+    },
+    
+    /** grow the interval by the Fibonacci sequence (1, 1, 2, 3, 5, 8...) */
+    FIBONACCI {
+        @Override
+        public long getInterval(final int poll, final long initial, final long maximum) {
+            long prior = 0;
+            long current = 1;
+            for (int i = 0; i < poll; i++) {
+                long next = prior + current;
+                prior = current;
+                current = next;
+                if (initial * current >= maximum) {
+                    return maximum;
+                }
+            }
+            return Math.min(initial * current, maximum);
+        }
+    };
+    
+    /**
+     * Get the interval to sleep before the specified poll.
+     * 
+     * @param poll index of the poll that follows the sleep (0 for the first sleep)
+     * @param initial initial polling interval in milliseconds
+     * @param maximum maximum polling interval in milliseconds
+     * @return polling interval in milliseconds
+     */
+    public abstract long getInterval(int poll, long initial, long maximum);
+    
+    /**
+     * Get the polling strategy with the specified name.
+     * 
+     * @param name strategy name (case-insensitive)
+     * @return polling strategy with the specified name
+     * @throws IllegalArgumentException if no strategy with the specified name exists
+     */
+    public static PollingStrategy fromName(final String name) {
+        for (PollingStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(name.trim())) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown polling strategy: " + name);
+    }
+}
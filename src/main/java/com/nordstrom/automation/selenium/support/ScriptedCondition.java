@@ -0,0 +1,112 @@
+package com.nordstrom.automation.selenium.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.nordstrom.automation.selenium.core.ByType;
+import com.nordstrom.automation.selenium.core.JsUtility;
+import com.nordstrom.automation.selenium.core.WebDriverUtils;
+import com.nordstrom.automation.selenium.interfaces.WrapsContext;
+
+/**
+ * This class describes a {@link Coordinator} condition in a form that can be evaluated inside the browser. The
+ * condition is evaluated by an asynchronous script that re-checks it whenever the DOM changes or a new animation
+ * frame is rendered, completing as soon as the condition holds or the specified interval elapses.
+ * <p>
+ * <b>NOTE</b>: The browser-side evaluation is an approximation of the Java-side condition (e.g. - visibility is
+ * determined from computed style and element size). {@link SearchContextWait} therefore treats the completion of
+ * the script as a signal to apply the coordinator itself, which produces the actual result.
+ */
+public final class ScriptedCondition {
+    
+    private static final String AWAIT_CONDITION = JsUtility.getScriptResource("awaitCondition.js");
+    
+    private final List<String> spec;
+    private final String predicate;
+    private final List<String> args;
+    
+    /**
+     * Constructor for scripted condition.
+     *
+     * @param spec locator specification (see {@link ByType#scriptSpecFor(By)})
+     * @param predicate name of browser-side predicate
+     * @param args predicate arguments
+     */
+    private ScriptedCondition(final List<String> spec, final String predicate, final String... args) {
+        this.spec = spec;
+        this.predicate = predicate;
+        this.args = Arrays.asList(args);
+    }
+    
+    /**
+     * Get a scripted condition that evaluates the specified predicate against the first element matched by the
+     * indicated locator. Supported predicates are:
+     * <ul>
+     *     <li><b>present</b>: the element exists</li>
+     *     <li><b>visible</b>: the element exists and is visible</li>
+     *     <li><b>invisible</b>: the element is either hidden or non-existent</li>
+     *     <li><b>textContains</b>: the text of the element contains the first argument</li>
+     *     <li><b>textNotEmpty</b>: the text of the element is non-empty</li>
+     *     <li><b>valueContains</b>: the value of the element contains the first argument</li>
+     *     <li><b>attributeEquals</b>: the attribute named by the first argument equals the second argument</li>
+     * </ul>
+     *
+     * @param locator element locator
+     * @param predicate name of browser-side predicate
+     * @param args predicate arguments
+     * @return scripted condition; 'null' if the locator can't be converted to CSS or XPath
+     */
+    public static ScriptedCondition forElement(final By locator, final String predicate, final String... args) {
+        List<String> spec = ByType.scriptSpecFor(locator);
+        return (spec != null) ? new ScriptedCondition(spec, predicate, args) : null;
+    }
+    
+    /**
+     * Wait in the browser for this condition to hold in the specified search context.
+     *
+     * @param context search context in which to evaluate the condition
+     * @param interval maximum interval to wait in milliseconds
+     * @return 'true' if the condition holds; 'false' if the interval elapsed
+     * @throws UnsupportedOperationException if the driver is unable to execute JavaScript
+     * @throws WebDriverException if the script fails or is interrupted (e.g. - by a page transition)
+     */
+    public boolean await(final SearchContext context, final long interval) {
+        JavascriptExecutor executor = WebDriverUtils.getExecutor(context);
+        Object result = executor.executeAsyncScript(AWAIT_CONDITION,
+                        contextArg(context), spec.get(0), spec.get(1), predicate, args, interval);
+        return Boolean.TRUE.equals(result);
+    }
+    
+    /**
+     * Get the context argument for the condition script.
+     *
+     * @param context search context
+     * @return list containing the context element; empty list for document context
+     */
+    private static List<WebElement> contextArg(final SearchContext context) {
+        List<WebElement> contextArg = new ArrayList<>();
+        SearchContext searchContext = context;
+        if (searchContext instanceof WrapsContext) {
+            searchContext = ((WrapsContext) searchContext).getWrappedContext();
+        }
+        if (searchContext instanceof WebElement) {
+            contextArg.add((WebElement) searchContext);
+        }
+        return contextArg;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return predicate + args + " for " + spec.get(0) + ": " + spec.get(1);
+    }
+}
@@ -1,6 +1,13 @@
 package com.nordstrom.automation.selenium.support;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.openqa.selenium.NotFoundException;
 import org.openqa.selenium.SearchContext;
@@ -14,16 +21,41 @@ import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.SystemClock;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.nordstrom.automation.selenium.AbstractSeleniumConfig.WaitType;
 import com.nordstrom.automation.selenium.core.WebDriverUtils;
 
 /**
  * This class extends {@link FluentWait}, specifying {@link SearchContext} as the type parameter. This enables you to
  * specify 'wait' operations within a specific search context. By contrast, the standard {@link WebDriverWait} class
  * always operates within the context of the driver, which encompasses the entire page. 
+ * <p>
+ * Waits acquired from {@link WaitType#getWait(SearchContext)} sleep between polls according to the
+ * {@link PollingStrategy} configured for the wait type, and the number of polls needed by each {@link Coordinator}
+ * is recorded in the {@link #getPollingStats() polling statistics}. Statistics are keyed by the
+ * {@link Coordinator#getKind() kind} of each coordinator, which defaults to the factory method that created it (e.g.
+ * - {@code Coordinators.visibilityOfElementLocated}) or its class name. This keeps the number of entries bounded by
+ * the number of coordinator kinds, regardless of the arguments with which they're created.
  */
 public class SearchContextWait extends FluentWait<SearchContext> {
     public static final long DEFAULT_SLEEP_TIMEOUT = 500;
+    private static final long SCRIPTED_INTERVAL = 5000;
     private final SearchContext context;
+    private final long timeoutInMillis;
+    private Schedule schedule;
+    private boolean scriptedConditions;
+    
+    private static final Map<String, PollCounts> POLL_COUNTS = new ConcurrentHashMap<>();
+    
+    private static final ClassValue<String> COORDINATOR_KINDS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            Method factory = type.getEnclosingMethod();
+            if (factory != null) {
+                return factory.getDeclaringClass().getSimpleName() + "." + factory.getName();
+            }
+            return type.getName();
+        }
+    };
 
     /**
      * Wait will ignore instances of NotFoundException that are encountered
@@ -59,6 +91,44 @@ public class SearchContextWait extends FluentWait<SearchContext> {
         this(context, new SystemClock(), Sleeper.SYSTEM_SLEEPER, timeOutInSeconds, sleepInMillis);
     }
 
+    /**
+     * Wait will ignore instances of NotFoundException that are encountered
+     * (thrown) by default in the 'until' condition, and immediately propagate
+     * all others. You can add more to the ignore list by calling
+     * ignoring(exceptions to add).
+     *
+     * @param context
+     *            The SearchContext instance to pass to the expected conditions
+     * @param timeOutInSeconds
+     *            The timeout in seconds when an expectation is called
+     * @param strategy
+     *            The schedule of intervals to sleep between polls
+     * @param initialInMillis
+     *            The initial polling interval in milliseconds
+     * @param maximumInMillis
+     *            The maximum polling interval in milliseconds
+     * @see SearchContextWait#ignoring(java.lang.Class)
+     */
+    public SearchContextWait(final SearchContext context, final long timeOutInSeconds,
+                    final PollingStrategy strategy, final long initialInMillis, final long maximumInMillis) {
+        this(context, timeOutInSeconds, new Schedule(strategy, initialInMillis, maximumInMillis));
+    }
+    
+    /**
+     * Constructor for search context wait that sleeps according to the specified polling schedule.
+     *
+     * @param context
+     *            The SearchContext instance to pass to the expected conditions
+     * @param timeOutInSeconds
+     *            The timeout in seconds when an expectation is called
+     * @param schedule
+     *            The polling schedule
+     */
+    private SearchContextWait(final SearchContext context, final long timeOutInSeconds, final Schedule schedule) {
+        this(context, new SystemClock(), duration -> schedule.sleep(), timeOutInSeconds, schedule.maximum);
+        this.schedule = schedule;
+    }
+    
     /**
      * Wait will ignore instances of NotFoundException that are encountered
      * (thrown) by default in the 'until' condition, and immediately propagate
@@ -84,6 +154,126 @@ public class SearchContextWait extends FluentWait<SearchContext> {
         pollingEvery(sleepTimeOut, TimeUnit.MILLISECONDS);
         ignoring(NotFoundException.class);
         this.context = context;
+        this.timeoutInMillis = TimeUnit.SECONDS.toMillis(timeOutInSeconds);
+    }
+    
+    /**
+     * Specify whether coordinators that provide a {@link Coordinator#getScriptedCondition() scripted condition} are
+     * awaited inside the browser. If enabled, each poll of such a coordinator first runs an asynchronous script that
+     * completes as soon as the condition holds (or after a brief interval), and then applies the coordinator to
+     * obtain the result. This typically reduces a wait to a single script execution and a single evaluation of the
+     * coordinator.
+     * 
+     * @param enabled 'true' to await scripted conditions in the browser; otherwise 'false'
+     * @return this search context wait
+     */
+    public SearchContextWait withScriptedConditions(final boolean enabled) {
+        this.scriptedConditions = enabled;
+        return this;
+    }
+    
+    /**
+     * Repeatedly applies the specified coordinator until it returns a value that is neither 'null' nor 'false', or
+     * the timeout expires. The polling schedule of this wait restarts for each invocation, and the number of polls
+     * needed is added to the {@link #getPollingStats() polling statistics} of the coordinator.
+     * <p>
+     * <b>NOTE</b>: If {@link #withScriptedConditions(boolean) scripted conditions} are enabled, the scripted form of
+     * the coordinator is awaited in the browser before each poll. If the script can't be executed, the wait reverts
+     * to applying the coordinator alone.
+     * 
+     * @param <V> coordinator return type
+     * @param coordinator the coordinator to apply
+     * @return the coordinator's return value if it returned something other than 'null' or 'false'
+     * @throws TimeoutException if the timeout expires
+     */
+    public <V> V until(final Coordinator<V> coordinator) {
+        if (schedule != null) {
+            schedule.reset();
+        }
+        
+        final int[] polls = new int[1];
+        final long deadline = System.currentTimeMillis() + timeoutInMillis;
+        final ScriptedCondition[] scripted = { scriptedConditions ? coordinator.getScriptedCondition() : null };
+        Coordinator<V> counter = new Coordinator<V>() {
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public V apply(final SearchContext input) {
+                polls[0]++;
+                long interval = Math.min(getScriptedInterval(), deadline - System.currentTimeMillis());
+                if ((scripted[0] != null) && (interval > 0)) {
+                    try {
+                        scripted[0].await(input, interval);
+                    } catch (WebDriverException | UnsupportedOperationException e) { //NOSONAR
+                        // script unavailable or interrupted; revert to coordinator alone
+                        scripted[0] = null;
+                    }
+                }
+                return coordinator.apply(input);
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String toString() {
+                return coordinator.toString();
+            }
+            
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public TimeoutException differentiateTimeout(final TimeoutException e) {
+                return coordinator.differentiateTimeout(e);
+            }
+        };
+        
+        boolean timedOut = true;
+        try {
+            V result = super.until(counter);
+            timedOut = false;
+            return result;
+        } finally {
+            POLL_COUNTS.computeIfAbsent(getKind(coordinator), k -> new PollCounts()).add(polls[0], timedOut);
+        }
+    }
+    
+    /**
+     * Get the kind of the specified coordinator, by which its polling statistics are keyed.
+     * 
+     * @param coordinator coordinator object
+     * @return coordinator kind
+     */
+    private static String getKind(final Coordinator<?> coordinator) {
+        String kind = coordinator.getKind();
+        return (kind != null) ? kind : COORDINATOR_KINDS.get(coordinator.getClass());
+    }
+    
+    /**
+     * Get a snapshot of the polling statistics of the coordinators that have been applied by search context waits,
+     * keyed by {@link Coordinator#getKind() coordinator kind}.
+     * 
+     * @return map of {@link PollingStats} objects
+     */
+    public static Map<String, PollingStats> getPollingStats() {
+        Map<String, PollingStats> stats = new TreeMap<>();
+        for (Map.Entry<String, PollCounts> entry : POLL_COUNTS.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return stats;
+    }
+    
+    /**
+     * Get the maximum interval to await a scripted condition in the browser. This interval is limited to half of the
+     * {@link WaitType#SCRIPT script timeout} to ensure that the script completes before the driver abandons it.
+     * 
+     * @return scripted condition interval in milliseconds
+     */
+    private static long getScriptedInterval() {
+        return Math.min(SCRIPTED_INTERVAL, WaitType.SCRIPT.getInterval() * 500);
     }
     
     /**
@@ -105,4 +295,146 @@ public class SearchContextWait extends FluentWait<SearchContext> {
         }
         throw ex;
     }
+    
+    /**
+     * This class tracks the progress of a search context wait through its polling schedule.
+     */
+    private static class Schedule {
+        
+        private final PollingStrategy strategy;
+        private final long initial;
+        private final long maximum;
+        private int poll;
+        
+        /**
+         * Constructor for polling schedule
+         * 
+         * @param strategy polling strategy
+         * @param initial initial polling interval in milliseconds
+         * @param maximum maximum polling interval in milliseconds
+         */
+        Schedule(final PollingStrategy strategy, final long initial, final long maximum) {
+            this.strategy = Objects.requireNonNull(strategy, "[strategy] must be non-null");
+            this.initial = initial;
+            this.maximum = maximum;
+        }
+        
+        /**
+         * Restart this polling schedule.
+         */
+        synchronized void reset() {
+            poll = 0;
+        }
+        
+        /**
+         * Sleep for the next interval of this polling schedule.
+         * 
+         * @throws InterruptedException if the sleeping thread is interrupted
+         */
+        void sleep() throws InterruptedException {
+            long interval;
+            synchronized (this) {
+                interval = strategy.getInterval(poll++, initial, maximum);
+            }
+            Thread.sleep(interval);
+        }
+    }
+    
+    /**
+     * This class accumulates the polling statistics of a coordinator.
+     */
+    private static class PollCounts {
+        
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAccumulator maxPolls = new LongAccumulator(Math::max, 0);
+        
+        /**
+         * Add the outcome of a wait to these statistics.
+         * 
+         * @param count number of polls needed
+         * @param timedOut 'true' if the wait timed out
+         */
+        void add(final int count, final boolean timedOut) {
+            waits.increment();
+            polls.add(count);
+            maxPolls.accumulate(count);
+            if (timedOut) {
+                timeouts.increment();
+            }
+        }
+        
+        /**
+         * Get a snapshot of these statistics.
+         * 
+         * @return {@link PollingStats} object
+         */
+        PollingStats snapshot() {
+            return new PollingStats(waits.sum(), polls.sum(), maxPolls.get(), timeouts.sum());
+        }
+    }
+    
+    /**
+     * This class is a snapshot of the polling statistics of a coordinator.
+     */
+    public static final class PollingStats {
+        
+        private final long waits;
+        private final long polls;
+        private final long maxPolls;
+        private final long timeouts;
+        
+        private PollingStats(final long waits, final long polls, final long maxPolls, final long timeouts) {
+            this.waits = waits;
+            this.polls = polls;
+            this.maxPolls = maxPolls;
+            this.timeouts = timeouts;
+        }
+        
+        /**
+         * Get the number of waits that applied the coordinator.
+         * 
+         * @return wait count
+         */
+        public long getWaits() {
+            return waits;
+        }
+        
+        /**
+         * Get the total number of times the coordinator was applied.
+         * 
+         * @return poll count
+         */
+        public long getPolls() {
+            return polls;
+        }
+        
+        /**
+         * Get the largest number of times the coordinator was applied by a single wait.
+         * 
+         * @return maximum poll count
+         */
+        public long getMaxPolls() {
+            return maxPolls;
+        }
+        
+        /**
+         * Get the number of waits that timed out.
+         * 
+         * @return timeout count
+         */
+        public long getTimeouts() {
+            return timeouts;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return String.format("waits: %d; polls: %d (mean: %.1f; max: %d); timeouts: %d",
+                            waits, polls, (waits == 0) ? 0.0 : (double) polls / waits, maxPolls, timeouts);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+var context = (arguments[0].length) ? arguments[0][0] : document;
+var type = arguments[1];
+var selector = arguments[2];
+var predicate = arguments[3];
+var args = arguments[4];
+var interval = arguments[5];
+var callback = arguments[arguments.length - 1];
+function locate() {
+	if (type === 'css') {
+		return context.querySelector(selector);
+	}
+	return document.evaluate(selector, context, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+}
+function isVisible(element) {
+	for (var node = element; node && node.nodeType === 1; node = node.parentNode) {
+		var style = window.getComputedStyle(node);
+		if (style.display === 'none' || style.opacity === '0') {
+			return false;
+		}
+	}
+	var style = window.getComputedStyle(element);
+	if (style.visibility === 'hidden' || style.visibility === 'collapse') {
+		return false;
+	}
+	var rect = element.getBoundingClientRect();
+	return (rect.width > 0) && (rect.height > 0);
+}
+function textOf(element) {
+	var text = (element.innerText !== undefined) ? element.innerText : element.textContent;
+	return (text) ? text : '';
+}
+function holds() {
+	var element = locate();
+	switch (predicate) {
+	case 'present':
+		return (element !== null);
+	case 'visible':
+		return (element !== null) && isVisible(element);
+	case 'invisible':
+		return (element === null) || !isVisible(element);
+	case 'textContains':
+		return (element !== null) && (textOf(element).indexOf(args[0]) >= 0);
+	case 'textNotEmpty':
+		return (element !== null) && (textOf(element).length > 0);
+	case 'valueContains':
+		return (element !== null) && (element.value != null) && (String(element.value).indexOf(args[0]) >= 0);
+	case 'attributeEquals':
+		if (element === null) {
+			return false;
+		}
+		var value = (args[0] in element) ? element[args[0]] : element.getAttribute(args[0]);
+		return (value == null) ? (args[1] == null) : (String(value) === args[1]);
+	}
+	return true;
+}
+if (holds()) {
+	callback(true);
+} else {
+	var done = false;
+	var observer = null;
+	var finish = function(result) {
+		if (!done) {
+			done = true;
+			if (observer) {
+				observer.disconnect();
+			}
+			callback(result);
+		}
+	};
+	var check = function() {
+		if (!done && holds()) {
+			finish(true);
+		}
+	};
+	if (window.MutationObserver) {
+		observer = new MutationObserver(check);
+		observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+	}
+	var frame = window.requestAnimationFrame || function(step) { return setTimeout(step, 50); };
+	var poll = function() {
+		check();
+		if (!done) {
+			frame(poll);
+		}
+	};
+	frame(poll);
+	setTimeout(function() { finish(false); }, interval);
+}
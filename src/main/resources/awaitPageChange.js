@@ -0,0 +1,22 @@
+var token = arguments[0];
+var interval = arguments[1];
+var callback = arguments[arguments.length - 1];
+if (window.seleniumFoundationToken !== token) {
+	callback(true);
+} else {
+	var done = false;
+	var onHide = function() {
+		finish(true);
+	};
+	var finish = function(changed) {
+		if (!done) {
+			done = true;
+			window.removeEventListener('pagehide', onHide);
+			callback(changed);
+		}
+	};
+	window.addEventListener('pagehide', onHide);
+	setTimeout(function() {
+		finish(window.seleniumFoundationToken !== token);
+	}, interval);
+}
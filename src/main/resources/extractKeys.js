@@ -0,0 +1,19 @@
+var keys = [];
+var elements = arguments[0];
+for (var i = 0; i < elements.length; i++) {
+	var element = (arguments[1]) ? elements[i].querySelector(arguments[1]) : elements[i];
+	var key = null;
+	if (element) {
+		if (arguments[2]) {
+			var value = element[arguments[2]];
+			if ((value === undefined) || (value === null) || (typeof value === 'object') || (typeof value === 'function')) {
+				value = element.getAttribute(arguments[2]);
+			}
+			key = (value === null) ? null : String(value);
+		} else {
+			key = (element.innerText || element.textContent || '').trim();
+		}
+	}
+	keys.push(key);
+}
+return keys;
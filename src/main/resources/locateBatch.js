@@ -0,0 +1,27 @@
+var context = (arguments[0].length) ? arguments[0][0] : document;
+var children = arguments[3];
+function locate(root, type, selector) {
+	var found = [];
+	if (type === 'css') {
+		var nodes = root.querySelectorAll(selector);
+		for (var i = 0; i < nodes.length; i++) {
+			found.push(nodes[i]);
+		}
+	} else {
+		var result = document.evaluate(selector, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+		for (var j = 0; j < result.snapshotLength; j++) {
+			found.push(result.snapshotItem(j));
+		}
+	}
+	return found;
+}
+var entries = [];
+var elements = locate(context, arguments[1], arguments[2]);
+for (var i = 0; i < elements.length; i++) {
+	var entry = [elements[i]];
+	for (var k = 0; k < children.length; k++) {
+		entry.push(locate(elements[i], children[k][0], children[k][1]));
+	}
+	entries.push(entry);
+}
+return entries;
@@ -0,0 +1 @@
+window.seleniumFoundationToken = arguments[0];
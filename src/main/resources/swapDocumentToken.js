@@ -0,0 +1,4 @@
+var top = window.top;
+var prior = top.seleniumFoundationEpoch;
+top.seleniumFoundationEpoch = arguments[0];
+return (prior === undefined) ? null : prior;
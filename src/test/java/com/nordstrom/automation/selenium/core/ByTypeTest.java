@@ -2,6 +2,9 @@ package com.nordstrom.automation.selenium.core;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.Arrays;
 
 import org.openqa.selenium.By;
 import org.testng.annotations.Test;
@@ -55,5 +58,22 @@ public class ByTypeTest {
         assertNull(ByType.xpathLocatorFor(Using.CSS_SELECTOR));
         assertEquals(ByType.xpathLocatorFor(Using.XPATH), ".//iframe[contains(@id,'frame-')]");
     }
+    
+    @Test
+    public void testScriptSpecFor() {
+        assertEquals(ByType.scriptSpecFor(Using.ID.locator()), Arrays.asList("css", "#element-id"));
+        assertEquals(ByType.scriptSpecFor(Using.LINK_TEXT.locator()), Arrays.asList("xpath", ".//a[.='link text']"));
+        assertEquals(ByType.scriptSpecFor(Using.CSS_SELECTOR.locator()), Arrays.asList("css", "iframe[id^='frame-']"));
+        assertEquals(ByType.scriptSpecFor(Using.XPATH.locator()),
+                        Arrays.asList("xpath", ".//iframe[contains(@id,'frame-')]"));
+    }
+    
+    @Test
+    public void testTranslationOf() {
+        assertSame(ByType.translationOf(Using.ID), ByType.translationOf(Using.ID.locator()));
+        assertSame(ByType.translationOf(Using.XPATH).getXPathLocator(), Using.XPATH.locator());
+        assertEquals(ByType.translationOf(Using.NAME).getXPathLocator(), By.xpath(".//*[@name='name']"));
+        assertNull(ByType.translationOf(Using.CSS_SELECTOR).getXPathLocator());
+    }
 
 }
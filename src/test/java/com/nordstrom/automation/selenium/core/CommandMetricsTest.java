@@ -0,0 +1,70 @@
+package com.nordstrom.automation.selenium.core;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.selenium.core.CommandMetrics.Histogram;
+import com.nordstrom.automation.selenium.core.CommandMetrics.Summary;
+
+public class CommandMetricsTest {
+    
+    @Test
+    public void testCommandMetrics() throws IOException {
+        CommandExecutor stub = mock(CommandExecutor.class);
+        when(stub.execute(any(Command.class))).thenReturn(new Response());
+        MetricsCommandExecutor executor = new MetricsCommandExecutor(stub);
+        SessionId sessionId = new SessionId("session");
+        
+        executor.execute(new Command(sessionId, "findElement"));
+        executor.execute(new Command(sessionId, "findElement"));
+        
+        String caller = CommandMetrics.setCaller("ExamplePage.getTitle");
+        try {
+            executor.execute(new Command(sessionId, "findElement"));
+            executor.execute(new Command(sessionId, "executeScript"));
+        } finally {
+            CommandMetrics.setCaller(caller);
+        }
+        
+        Summary summary = executor.getMetrics().drain();
+        assertEquals(summary.getCount(), 4);
+        assertEquals(summary.getCommands().size(), 2);
+        
+        Map<String, Histogram> histograms = summary.getHistograms("findElement");
+        assertEquals(histograms.get(CommandMetrics.NO_CALLER).getCount(), 2);
+        assertEquals(histograms.get("ExamplePage.getTitle").getCount(), 1);
+        assertEquals(summary.getHistograms("executeScript").get("ExamplePage.getTitle").getCount(), 1);
+        assertTrue(summary.toString().startsWith("WebDriver commands: 4"));
+        
+        assertEquals(executor.getMetrics().drain().getCount(), 0);
+    }
+    
+    @Test
+    public void testHistogramBuckets() {
+        Histogram histogram = new Histogram();
+        histogram.record(500000L);
+        histogram.record(1000000L);
+        histogram.record(3000000L);
+        histogram.record(100000000L);
+        
+        long[] buckets = histogram.getBuckets();
+        assertEquals(buckets[0], 1);
+        assertEquals(buckets[1], 1);
+        assertEquals(buckets[2], 1);
+        assertEquals(buckets[7], 1);
+        assertEquals(histogram.getPercentileBound(50), 2);
+        assertEquals(histogram.getPercentileBound(90), 128);
+    }
+}
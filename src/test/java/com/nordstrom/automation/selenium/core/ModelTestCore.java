@@ -2,6 +2,7 @@ package com.nordstrom.automation.selenium.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.Map;
@@ -9,6 +10,8 @@ import java.util.Map;
 import com.nordstrom.automation.selenium.annotations.InitialPage;
 import com.nordstrom.automation.selenium.model.ExamplePage;
 import com.nordstrom.automation.selenium.model.FrameComponent;
+import com.nordstrom.automation.selenium.model.KeyedRowComponent;
+import com.nordstrom.automation.selenium.model.KeyedTableComponent;
 import com.nordstrom.automation.selenium.model.TableComponent;
 
 @InitialPage(ExamplePage.class)
@@ -22,6 +25,7 @@ public class ModelTestCore {
     private static final String FRAME_B = "Frame B";
     private static final String FRAME_C = "Frame C";
     private static final String TABLE_ID = "t1";
+    private static final String[] ROW_KEYS = {"Firstname", "Jill", "Eve", "John"};
     
     public static void testBasicPage(TestBase instance) {
         ExamplePage page = getPage(instance);
@@ -83,6 +87,43 @@ public class ModelTestCore {
         ExamplePage page = getPage(instance);
         Map<Object, TableComponent> componentMap = page.getTableMap();
         verifyTable(componentMap.get(TABLE_ID));
+        assertTrue(componentMap.containsValue(componentMap.get(TABLE_ID)));
+    }
+    
+    public static void testComponentKey(TestBase instance) {
+        ExamplePage page = getPage(instance);
+        Map<Object, KeyedTableComponent> keyedMap = page.getKeyedTableMap();
+        Map<Object, TableComponent> componentMap = page.getTableMap();
+        assertEquals(keyedMap.keySet(), componentMap.keySet());
+        verifyTable(keyedMap.get(TABLE_ID));
+        
+        Map<Object, KeyedRowComponent> rowMap = page.getTable().getRowMap();
+        assertArrayEquals(rowMap.keySet().toArray(), ROW_KEYS);
+        assertArrayEquals(rowMap.get(ROW_KEYS[0]).getContent().toArray(), HEADINGS);
+        for (int i = 0; i < CONTENT.length; i++) {
+            assertArrayEquals(rowMap.get(ROW_KEYS[i + 1]).getContent().toArray(), CONTENT[i]);
+        }
+    }
+    
+    /**
+     * This test verifies that batched acquisition yields the same content as standard acquisition
+     * and that stale prefetched element references are automatically refreshed.
+     */
+    public static void testBatchedAcquisition(TestBase instance) {
+        ExamplePage page = getPage(instance);
+        TableComponent batched = page.getBatchedTable();
+        TableComponent standard = page.getTable();
+        verifyTable(batched);
+        assertEquals(batched.getContent(), standard.getContent());
+        
+        // refresh page to force DOM rebuild
+        page.getDriver().navigate().refresh();
+        // verify table contents
+        // NOTE: This necessitates refreshing stale prefetched element references
+        verifyTable(batched);
+        for (int count : batched.getBodyRefreshCounts()) {
+            assertEquals(count, 1);
+        }
     }
     
     public static void testFrameList(TestBase instance) {
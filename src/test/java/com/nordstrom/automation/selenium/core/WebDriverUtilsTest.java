@@ -1,6 +1,9 @@
 package com.nordstrom.automation.selenium.core;
 
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
@@ -11,6 +14,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
@@ -122,6 +126,21 @@ public class WebDriverUtilsTest extends TestNgBase {
         assertTrue(elements.isEmpty());
     }
     
+    @NoDriver
+    @Test
+    public void testSetImplicitWait() {
+        WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        
+        WebDriverUtils.setImplicitWait(driver, 0);
+        WebDriverUtils.setImplicitWait(driver, 0);
+        WebDriverUtils.setImplicitWait(driver, 0);
+        verify(driver.manage().timeouts(), times(1)).implicitlyWait(0, TimeUnit.SECONDS);
+        
+        WebDriverUtils.setImplicitWait(driver, 5);
+        WebDriverUtils.setImplicitWait(driver, 5);
+        verify(driver.manage().timeouts(), times(1)).implicitlyWait(5, TimeUnit.SECONDS);
+    }
+    
     private static void verifyExecutor(SearchContext context, WebDriver driver) {
         JavascriptExecutor executor = WebDriverUtils.getExecutor(context);
         assertTrue(executor instanceof RobustJavascriptExecutor);
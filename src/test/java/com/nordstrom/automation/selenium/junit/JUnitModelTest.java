@@ -57,6 +57,18 @@ public class JUnitModelTest extends JUnitBase {
         ModelTestCore.testComponentMap(this);
     }
     
+    @Test
+    @Ignore
+    public void testComponentKey() {
+        ModelTestCore.testComponentKey(this);
+    }
+    
+    @Test
+    @Ignore
+    public void testBatchedAcquisition() {
+        ModelTestCore.testBatchedAcquisition(this);
+    }
+    
     @Test
     @Ignore
     public void testFrameList() {
@@ -0,0 +1,18 @@
+package com.nordstrom.automation.selenium.model;
+
+import org.openqa.selenium.By;
+
+import com.nordstrom.automation.selenium.annotations.BatchedAcquisition;
+
+@BatchedAcquisition(TableRowComponent.Using.class)
+public class BatchedRowComponent extends TableRowComponent {
+    
+    public BatchedRowComponent(By locator, ComponentContainer parent) {
+        super(locator, parent);
+    }
+    
+    public BatchedRowComponent(RobustWebElement element, ComponentContainer parent) {
+        super(element, parent);
+    }
+
+}
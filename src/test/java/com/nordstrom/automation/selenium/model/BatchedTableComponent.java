@@ -0,0 +1,20 @@
+package com.nordstrom.automation.selenium.model;
+
+import org.openqa.selenium.By;
+
+public class BatchedTableComponent extends TableComponent {
+    
+    public BatchedTableComponent(By locator, ComponentContainer parent) {
+        super(locator, parent);
+    }
+    
+    public BatchedTableComponent(RobustWebElement element, ComponentContainer parent) {
+        super(element, parent);
+    }
+    
+    @Override
+    protected Class<? extends TableRowComponent> getRowType() {
+        return BatchedRowComponent.class;
+    }
+
+}
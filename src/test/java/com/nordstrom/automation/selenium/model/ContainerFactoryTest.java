@@ -0,0 +1,58 @@
+package com.nordstrom.automation.selenium.model;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import org.testng.annotations.Test;
+
+public class ContainerFactoryTest {
+    
+    private static final Class<?>[] ARG_TYPES = {String.class, Integer.class};
+    
+    public static class Subject {
+        
+        private final String name;
+        private final Integer index;
+        
+        public Subject(String name, Integer index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("negative index");
+            }
+            this.name = name;
+            this.index = index;
+        }
+        
+        public Subject(String name) {
+            this(name, 0);
+        }
+    }
+    
+    @Test
+    public void testNewInstance() {
+        Subject first = ContainerFactory.newInstance(Subject.class, ARG_TYPES, new Object[] {"first", 1});
+        Subject second = ContainerFactory.newInstance(Subject.class, ARG_TYPES, new Object[] {"second", 2});
+        assertNotSame(first, second);
+        assertEquals(first.name, "first");
+        assertEquals(second.index, Integer.valueOf(2));
+    }
+    
+    @Test
+    public void testAlternateSignature() {
+        Subject subject = ContainerFactory.newInstance(Subject.class,
+                        new Class<?>[] {String.class}, new Object[] {"alt"});
+        assertEquals(subject.name, "alt");
+        assertEquals(subject.index, Integer.valueOf(0));
+        subject = ContainerFactory.newInstance(Subject.class, ARG_TYPES, new Object[] {"main", 3});
+        assertEquals(subject.index, Integer.valueOf(3));
+    }
+    
+    @Test(expectedExceptions = {IllegalArgumentException.class}, expectedExceptionsMessageRegExp = "negative index")
+    public void testConstructorException() {
+        ContainerFactory.newInstance(Subject.class, ARG_TYPES, new Object[] {"bad", -1});
+    }
+    
+    @Test(expectedExceptions = {NoSuchMethodException.class})
+    public void testNoSuchConstructor() {
+        ContainerFactory.newInstance(Subject.class, new Class<?>[] {Integer.class}, new Object[] {1});
+    }
+}
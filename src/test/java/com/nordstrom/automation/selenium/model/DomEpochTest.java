@@ -0,0 +1,91 @@
+package com.nordstrom.automation.selenium.model;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+public class DomEpochTest {
+    
+    @Test
+    public void testForWindow() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch epoch = DomEpoch.forWindow(driver, "window-1");
+        assertSame(DomEpoch.forWindow(driver, "window-1"), epoch);
+        assertSame(DomEpoch.forWindow(driver, null), DomEpoch.forWindow(driver, null));
+        assertNotEquals(DomEpoch.forWindow(driver, "window-2"), epoch);
+        assertNotEquals(DomEpoch.forWindow(mock(WebDriver.class), "window-1"), epoch);
+    }
+    
+    @Test
+    public void testAdvanceWindow() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch first = DomEpoch.forWindow(driver, "window-1");
+        DomEpoch second = DomEpoch.forWindow(driver, "window-2");
+        DomEpoch shared = DomEpoch.forWindow(driver, null);
+        long firstValue = first.current();
+        long secondValue = second.current();
+        long sharedValue = shared.current();
+        
+        DomEpoch.advance(driver, "window-1");
+        assertNotEquals(first.current(), firstValue);
+        assertEquals(second.current(), secondValue);
+        assertNotEquals(shared.current(), sharedValue);
+    }
+    
+    @Test
+    public void testAdvanceDriver() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch first = DomEpoch.forWindow(driver, "window-1");
+        DomEpoch second = DomEpoch.forWindow(driver, "window-2");
+        DomEpoch shared = DomEpoch.forWindow(driver, null);
+        long firstValue = first.current();
+        long secondValue = second.current();
+        long sharedValue = shared.current();
+        
+        DomEpoch.advance(driver, null);
+        assertNotEquals(first.current(), firstValue);
+        assertNotEquals(second.current(), secondValue);
+        assertNotEquals(shared.current(), sharedValue);
+    }
+    
+    @Test
+    public void testForgetWindow() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch epoch = DomEpoch.forWindow(driver, "window-1");
+        long value = epoch.current();
+        
+        DomEpoch.forget(driver, "window-1");
+        assertNotEquals(epoch.current(), value);
+        assertNotSame(DomEpoch.forWindow(driver, "window-1"), epoch);
+    }
+    
+    @Test
+    public void testForgetDriver() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch epoch = DomEpoch.forWindow(driver, "window-1");
+        DomEpoch shared = DomEpoch.forWindow(driver, null);
+        long value = epoch.current();
+        long sharedValue = shared.current();
+        
+        DomEpoch.forget(driver);
+        assertNotEquals(epoch.current(), value);
+        assertNotEquals(shared.current(), sharedValue);
+        assertNotSame(DomEpoch.forWindow(driver, "window-1"), epoch);
+        assertNotSame(DomEpoch.forWindow(driver, null), shared);
+    }
+    
+    @Test
+    public void testDetectWithoutScript() {
+        WebDriver driver = mock(WebDriver.class);
+        DomEpoch epoch = DomEpoch.forWindow(driver, "window-1");
+        long value = epoch.current();
+        assertFalse(epoch.detectReplacement(driver));
+        assertEquals(epoch.current(), value);
+    }
+}
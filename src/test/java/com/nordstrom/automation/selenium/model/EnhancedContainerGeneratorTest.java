@@ -0,0 +1,80 @@
+package com.nordstrom.automation.selenium.model;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+public class EnhancedContainerGeneratorTest {
+    
+    @Test
+    public void testPregeneratedClassIsLoaded() throws IOException, ClassNotFoundException {
+        Path classesDir = Files.createTempDirectory("enhanced");
+        try {
+            String fileName = PrebuiltPage.class.getSimpleName() + ".class";
+            String packagePath = PrebuiltPage.class.getPackage().getName().replace('.', File.separatorChar);
+            Path packageDir = classesDir.resolve(packagePath);
+            Files.createDirectories(packageDir);
+            try (InputStream in = PrebuiltPage.class.getResourceAsStream(fileName)) {
+                Files.copy(in, packageDir.resolve(fileName));
+            }
+            
+            try (ChildFirstLoader loader = new ChildFirstLoader(classesDir)) {
+                assertEquals(EnhancedContainerGenerator.generate(classesDir, loader), 1);
+                String proxyName = Enhanceable.getProxyName(PrebuiltPage.class);
+                assertTrue(Files.exists(classesDir.resolve(proxyName.replace('.', File.separatorChar) + ".class")));
+                
+                // pre-generated classes are loaded without an instance of the container class
+                Class<?> containerClass = Class.forName(PrebuiltPage.class.getName(), false, loader);
+                Class<?> proxyType = Enhanceable.getProxyType(null, containerClass);
+                assertEquals(proxyType.getName(), proxyName);
+                assertSame(proxyType.getSuperclass(), containerClass);
+                assertSame(proxyType.getClassLoader(), loader);
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(classesDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+    
+    /**
+     * This class loader loads the classes in its directory itself, so that the container classes copied there are
+     * isolated from those of the test class path.
+     */
+    private static class ChildFirstLoader extends URLClassLoader {
+        
+        ChildFirstLoader(final Path classesDir) throws IOException {
+            super(new URL[] {classesDir.toUri().toURL()}, ChildFirstLoader.class.getClassLoader());
+        }
+        
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    try {
+                        clazz = findClass(name);
+                    } catch (ClassNotFoundException e) {
+                        return super.loadClass(name, resolve);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+    }
+}
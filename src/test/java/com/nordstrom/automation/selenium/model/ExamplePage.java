@@ -23,8 +23,10 @@ public class ExamplePage extends Page {
     private FrameComponent frameByIndex;
     private FrameComponent frameById;
     private TableComponent table;
+    private TableComponent batchedTable;
     private List<TableComponent> tableList;
     private Map<Object, TableComponent> tableMap;
+    private Map<Object, KeyedTableComponent> keyedTableMap;
     private List<FrameComponent> frameList;
     private Map<Object, FrameComponent> frameMap;
     private int refreshCount;
@@ -89,6 +91,13 @@ public class ExamplePage extends Page {
         return table;
     }
     
+    public TableComponent getBatchedTable() {
+        if (batchedTable == null) {
+            batchedTable = new BatchedTableComponent(Using.TABLE.locator, this);
+        }
+        return batchedTable;
+    }
+    
     public List<TableComponent> getTableList() {
         if (tableList == null) {
             tableList = newComponentList(TableComponent.class, Using.TABLE.locator);
@@ -103,6 +112,13 @@ public class ExamplePage extends Page {
         return tableMap;
     }
     
+    public Map<Object, KeyedTableComponent> getKeyedTableMap() {
+        if (keyedTableMap == null) {
+            keyedTableMap = newComponentMap(KeyedTableComponent.class, Using.TABLE.locator);
+        }
+        return keyedTableMap;
+    }
+    
     public List<FrameComponent> getFrameList() {
         if (frameList == null) {
             frameList = newFrameList(FrameComponent.class, Using.FRAME.locator);
@@ -0,0 +1,18 @@
+package com.nordstrom.automation.selenium.model;
+
+import org.openqa.selenium.By;
+
+import com.nordstrom.automation.selenium.annotations.ContainerKey;
+
+@ContainerKey(selector = "th,td")
+public class KeyedRowComponent extends TableRowComponent {
+    
+    public KeyedRowComponent(By locator, ComponentContainer parent) {
+        super(locator, parent);
+    }
+    
+    public KeyedRowComponent(RobustWebElement element, ComponentContainer parent) {
+        super(element, parent);
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.nordstrom.automation.selenium.model;
+
+import org.openqa.selenium.By;
+
+import com.nordstrom.automation.selenium.annotations.ContainerKey;
+
+@ContainerKey(attribute = "id")
+public class KeyedTableComponent extends TableComponent {
+    
+    public KeyedTableComponent(By locator, ComponentContainer parent) {
+        super(locator, parent);
+    }
+    
+    public KeyedTableComponent(RobustWebElement element, ComponentContainer parent) {
+        super(element, parent);
+    }
+
+}
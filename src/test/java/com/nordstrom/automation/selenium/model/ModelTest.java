@@ -49,6 +49,20 @@ public class ModelTest extends TestNgBase {
         ModelTestCore.testComponentMap(this);
     }
     
+    @Test
+    public void testComponentKey() {
+        ModelTestCore.testComponentKey(this);
+    }
+    
+    /**
+     * This test verifies that batched acquisition yields the same content as standard acquisition
+     * and that stale prefetched element references are automatically refreshed.
+     */
+    @Test
+    public void testBatchedAcquisition() {
+        ModelTestCore.testBatchedAcquisition(this);
+    }
+    
     @Test
     public void testFrameList() {
         ModelTestCore.testFrameList(this);
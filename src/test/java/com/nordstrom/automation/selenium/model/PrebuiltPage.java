@@ -0,0 +1,10 @@
+package com.nordstrom.automation.selenium.model;
+
+import org.openqa.selenium.WebDriver;
+
+public class PrebuiltPage extends Page {
+    
+    public PrebuiltPage(final WebDriver driver) {
+        super(driver);
+    }
+}
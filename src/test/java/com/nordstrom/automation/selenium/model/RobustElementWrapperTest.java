@@ -0,0 +1,44 @@
+package com.nordstrom.automation.selenium.model;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import com.nordstrom.automation.selenium.interfaces.WrapsContext;
+
+public class RobustElementWrapperTest {
+    
+    @Test
+    public void testEpochRefresh() {
+        WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        WrapsContext context = mock(WrapsContext.class, withSettings().extraInterfaces(SearchContext.class));
+        when(context.getWrappedContext()).thenReturn(driver);
+        
+        By locator = By.id("target");
+        WebElement initial = mock(WebElement.class);
+        WebElement refreshed = mock(WebElement.class);
+        when(driver.findElement(locator)).thenReturn(refreshed);
+        
+        RobustElementWrapper wrapper =
+                        new RobustElementWrapper(initial, context, locator, RobustElementWrapper.CARDINAL);
+        long epochRefreshes = RobustElementWrapper.getRefreshStats().getEpochRefreshes();
+        assertSame(wrapper.getWrappedElement(), initial);
+        assertEquals(RobustElementWrapper.getRefreshStats().getEpochRefreshes(), epochRefreshes);
+        
+        DomEpoch.advance(driver, null);
+        assertSame(wrapper.getWrappedElement(), refreshed);
+        assertEquals(RobustElementWrapper.getRefreshStats().getEpochRefreshes(), epochRefreshes + 1);
+        
+        assertSame(wrapper.getWrappedElement(), refreshed);
+        assertEquals(RobustElementWrapper.getRefreshStats().getEpochRefreshes(), epochRefreshes + 1);
+    }
+}
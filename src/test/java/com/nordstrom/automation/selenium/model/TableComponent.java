@@ -2,6 +2,7 @@ package com.nordstrom.automation.selenium.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
@@ -18,12 +19,14 @@ public class TableComponent extends PageComponent {
     }
     
     private TableRowComponent tableHdr;
-    private List<TableRowComponent> tableRows;
+    private List<? extends TableRowComponent> tableRows;
+    private Map<Object, KeyedRowComponent> rowMap;
     private int refreshCount;
     
     protected enum Using implements ByEnum {
         HDR_ROW(By.cssSelector("tr[id*='-h']")),
-        TBL_ROW(By.cssSelector("tr[id*='-r']"));
+        TBL_ROW(By.cssSelector("tr[id*='-r']")),
+        ALL_ROW(By.cssSelector("tr"));
         
         private By locator;
         
@@ -56,13 +59,24 @@ public class TableComponent extends PageComponent {
         return tableHdr;
     }
     
-    private List<TableRowComponent> getTableRows() {
+    private List<? extends TableRowComponent> getTableRows() {
         if (tableRows == null) {
-            tableRows = newComponentList(TableRowComponent.class, Using.TBL_ROW.locator);
+            tableRows = newComponentList(getRowType(), Using.TBL_ROW.locator);
         }
         return tableRows;
     }
     
+    protected Class<? extends TableRowComponent> getRowType() {
+        return TableRowComponent.class;
+    }
+    
+    public Map<Object, KeyedRowComponent> getRowMap() {
+        if (rowMap == null) {
+            rowMap = newComponentMap(KeyedRowComponent.class, Using.ALL_ROW.locator);
+        }
+        return rowMap;
+    }
+    
     public static Object getKey(SearchContext context) {
         return ((WebElement) context).getAttribute("id");
     }
@@ -82,7 +96,7 @@ public class TableComponent extends PageComponent {
     }
     
     public int[] getBodyRefreshCounts() {
-        List<TableRowComponent> tableRows = getTableRows();
+        List<? extends TableRowComponent> tableRows = getTableRows();
         int[] counts = new int[tableRows.size()];
         for (int i = 0; i < tableRows.size(); i++) {
             counts[i] = tableRows.get(i).getRefreshCount();
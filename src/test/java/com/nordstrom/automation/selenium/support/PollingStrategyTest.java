@@ -0,0 +1,43 @@
+package com.nordstrom.automation.selenium.support;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+public class PollingStrategyTest {
+    
+    @Test
+    public void testFixed() {
+        assertEquals(PollingStrategy.FIXED.getInterval(0, 10, 500), 500);
+        assertEquals(PollingStrategy.FIXED.getInterval(9, 10, 500), 500);
+    }
+    
+    @Test
+    public void testExponential() {
+        long[] expect = {10, 20, 40, 80, 160, 320, 500, 500};
+        for (int i = 0; i < expect.length; i++) {
+            assertEquals(PollingStrategy.EXPONENTIAL.getInterval(i, 10, 500), expect[i]);
+        }
+        assertEquals(PollingStrategy.EXPONENTIAL.getInterval(100, 10, 500), 500);
+    }
+    
+    @Test
+    public void testFibonacci() {
+        long[] expect = {10, 10, 20, 30, 50, 80, 130, 210, 340, 500, 500};
+        for (int i = 0; i < expect.length; i++) {
+            assertEquals(PollingStrategy.FIBONACCI.getInterval(i, 10, 500), expect[i]);
+        }
+    }
+    
+    @Test
+    public void testFromName() {
+        assertEquals(PollingStrategy.fromName("Exponential"), PollingStrategy.EXPONENTIAL);
+        assertEquals(PollingStrategy.fromName(" fixed "), PollingStrategy.FIXED);
+    }
+    
+    @Test(expectedExceptions = {IllegalArgumentException.class},
+            expectedExceptionsMessageRegExp = "Unknown polling strategy: linear")
+    public void testUnknownName() {
+        PollingStrategy.fromName("linear");
+    }
+}